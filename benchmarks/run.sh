@@ -0,0 +1,31 @@
+#!/usr/bin/env sh
+#
+# common-package JMH benchmark'larını çalıştırır ve sürüm bazlı baseline raporu üretir.
+#
+#   ./run.sh                      Tüm benchmark'lar, rapor: baseline/<sürüm>.json
+#   ./run.sh LoggingFilter        Yalnızca adı eşleşen benchmark'lar
+#   ./run.sh --compare a.json b.json
+#
+# Ölçümler sabit heap, G1 ve ön-ısıtılmış bellek ile yapılır; aynı makinede alınan raporlar
+# release'ler arasında karşılaştırılabilir. Ek JMH argümanları JMH_ARGS ile verilebilir.
+set -e
+
+cd "$(dirname "$0")"
+MVNW="sh ../mvnw"
+JAR=target/benchmarks.jar
+
+if [ "$1" = "--compare" ]; then
+    exec java -cp "$JAR" com.kalayciburak.commonpackage.benchmark.BaselineComparator "$2" "$3"
+fi
+
+VERSION=$($MVNW -q -f ../pom.xml help:evaluate -Dexpression=project.version -DforceStdout)
+$MVNW -q -f ../pom.xml install -DskipTests
+$MVNW -q -f pom.xml package -Dcommon-package.version="$VERSION"
+
+mkdir -p baseline
+java -jar "$JAR" \
+    -f 2 -wi 5 -w 1s -i 5 -r 1s \
+    -jvmArgs "-Xms2g -Xmx2g -XX:+UseG1GC -XX:+AlwaysPreTouch" \
+    -prof gc \
+    -rf json -rff "baseline/$VERSION.json" \
+    $JMH_ARGS "$@" | tee "baseline/$VERSION.txt"
@@ -0,0 +1,98 @@
+package com.kalayciburak.commonpackage.benchmark;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * <b>İki JMH JSON raporunu karşılaştırır.</b>
+ * <p>
+ * Benchmark ve parametre kombinasyonu başına süre ({@code primaryMetric}) ve istek başına
+ * allocation ({@code gc.alloc.rate.norm}) değişimini yüzde olarak yazar. Yalnızca bir
+ * raporda bulunan kombinasyonlar {@code -} ile gösterilir.
+ * <p>
+ * Kullanım: {@code java -cp target/benchmarks.jar com.kalayciburak.commonpackage.benchmark.BaselineComparator eski.json yeni.json}
+ */
+public final class BaselineComparator {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final String ROW = "%-90s %14s %14s %8s %14s %14s %8s%n";
+
+    private BaselineComparator() {}
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Kullanım: BaselineComparator <baseline.json> <current.json>");
+            System.exit(2);
+        }
+        var mapper = JsonMapper.builder().build();
+        var baseline = read(mapper, Path.of(args[0]));
+        var current = read(mapper, Path.of(args[1]));
+
+        System.out.printf(ROW, "Benchmark", "Önce", "Sonra", "Δ%", "Önce B/op", "Sonra B/op", "Δ%");
+        var keys = new LinkedHashMap<>(baseline);
+        current.forEach(keys::putIfAbsent);
+        for (var key : keys.keySet()) {
+            var before = baseline.get(key);
+            var after = current.get(key);
+            System.out.printf(ROW, key,
+                    format(before, Result::score), format(after, Result::score), change(before, after, Result::score),
+                    format(before, Result::allocation), format(after, Result::allocation),
+                    change(before, after, Result::allocation));
+        }
+    }
+
+    private static Map<String, Result> read(ObjectMapper mapper, Path file) {
+        var results = new LinkedHashMap<String, Result>();
+        for (var node : mapper.readTree(file.toFile())) {
+            var primary = node.path("primaryMetric");
+            results.put(key(node), new Result(
+                    primary.path("score").asDouble(),
+                    allocation(node.path("secondaryMetrics"))));
+        }
+
+        return results;
+    }
+
+    private static String key(JsonNode node) {
+        var key = new StringBuilder(node.path("benchmark").asString()
+                .replace("com.kalayciburak.commonpackage.benchmark.", ""));
+        var params = node.path("params");
+        if (params.isObject()) params.properties().forEach(entry -> key.append(' ')
+                .append(entry.getKey()).append('=').append(entry.getValue().asString()));
+
+        return key.toString();
+    }
+
+    /**
+     * JMH sürümüne göre metrik adı {@code ·} ile başlayabildiğinden ad öneki olmadan aranır.
+     */
+    private static double allocation(JsonNode metrics) {
+        for (var entry : metrics.properties()) {
+            if (entry.getKey().endsWith(ALLOCATION)) return entry.getValue().path("score").asDouble();
+        }
+
+        return Double.NaN;
+    }
+
+    private static String format(Result result, ToDoubleFunction<Result> metric) {
+        if (result == null || Double.isNaN(metric.applyAsDouble(result))) return "-";
+
+        return String.format("%.3f", metric.applyAsDouble(result));
+    }
+
+    private static String change(Result before, Result after, ToDoubleFunction<Result> metric) {
+        if (before == null || after == null) return "-";
+        double old = metric.applyAsDouble(before);
+        double now = metric.applyAsDouble(after);
+        if (Double.isNaN(old) || Double.isNaN(now) || old == 0) return "-";
+
+        return String.format("%+.1f", (now - old) / old * 100);
+    }
+
+    private record Result(double score, double allocation) {}
+}
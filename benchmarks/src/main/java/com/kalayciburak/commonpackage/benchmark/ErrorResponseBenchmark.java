@@ -0,0 +1,71 @@
+package com.kalayciburak.commonpackage.benchmark;
+
+import com.kalayciburak.commonpackage.core.constant.Codes;
+import com.kalayciburak.commonpackage.core.constant.Messages;
+import com.kalayciburak.commonpackage.core.constant.Types;
+import com.kalayciburak.commonpackage.core.response.error.ErrorDetail;
+import com.kalayciburak.commonpackage.core.response.error.ErrorResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>{@link ErrorResponse} ve {@link ErrorDetail} oluşturma maliyeti.</b>
+ * <p>
+ * Exception'lar bir kez oluşturulur; ölçüm stack trace üretimini değil, response ve detay
+ * nesnelerinin kurulmasını içerir. {@code depth} stack trace derinliğidir ve
+ * {@code FIRST_APPLICATION} seçiminde taranacak frame sayısını belirler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseBenchmark {
+    @Param({"8", "128"})
+    private int depth;
+
+    @Param({"TOP", "FIRST_APPLICATION"})
+    private ErrorDetail.FrameSelection frameSelection;
+
+    private RuntimeException cause;
+
+    @Setup
+    public void setUp() {
+        ErrorDetail.configure(frameSelection, List.of());
+        cause = new IllegalStateException("Kayıt işlenemedi");
+        var stackTrace = new StackTraceElement[depth];
+        for (int i = 0; i < depth - 1; i++)
+            stackTrace[i] = new StackTraceElement("org.springframework.web.Frame" + i, "invoke", "Frame.java", i);
+        stackTrace[depth - 1] = new StackTraceElement("com.example.order.OrderService", "save", "OrderService.java", 42);
+        cause.setStackTrace(stackTrace);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ErrorDetail.configure(ErrorDetail.FrameSelection.TOP, List.of());
+    }
+
+    /**
+     * Detay, response'tan ilk okunana kadar oluşturulmaz.
+     */
+    @Benchmark
+    public ErrorResponse<String> construct() {
+        return new ErrorResponse<>(Types.Error.RUNTIME, Codes.UNEXPECTED, Messages.Error.UNEXPECTED,
+                HttpStatus.INTERNAL_SERVER_ERROR, cause);
+    }
+
+    /**
+     * Loglama sırasındaki gibi response oluşturulup detayı okunur.
+     */
+    @Benchmark
+    public ErrorDetail constructWithDetail() {
+        return new ErrorResponse<>(Types.Error.RUNTIME, Codes.UNEXPECTED, Messages.Error.UNEXPECTED,
+                HttpStatus.INTERNAL_SERVER_ERROR, cause).getDetail();
+    }
+
+    @Benchmark
+    public ErrorDetail detail() {
+        return ErrorDetail.of(cause);
+    }
+}
@@ -0,0 +1,87 @@
+package com.kalayciburak.commonpackage.benchmark;
+
+import com.kalayciburak.commonpackage.core.advice.BaseExceptionHandler;
+import com.kalayciburak.commonpackage.core.advice.exception.EntityNotFoundException;
+import com.kalayciburak.commonpackage.core.constant.Messages;
+import com.kalayciburak.commonpackage.core.response.error.ErrorDetail;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>Exception fırlatma ve {@link BaseExceptionHandler} ile işleme maliyeti.</b>
+ * <p>
+ * Exception {@code depth} frame derinliğinde fırlatılır, yakalanır ve handler'dan dönen response'un
+ * detayı error_log yazılırken olduğu gibi okunur. Stack trace üreten {@link RuntimeException} ve
+ * {@code captureStackTrace=true} ile oluşturulan {@link EntityNotFoundException} önceki davranışı,
+ * stackless ve önbellekteki instance yeni davranışı temsil eder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionBenchmark {
+    @Param({"16", "64"})
+    private int depth;
+
+    private final BaseExceptionHandler handler = new BaseExceptionHandler();
+
+    @Benchmark
+    public ErrorDetail runtimeException() {
+        try {
+            throwAt(depth, Kind.RUNTIME);
+        } catch (RuntimeException e) {
+            return handler.handleGenericException(e).getBody().getDetail();
+        }
+
+        return null;
+    }
+
+    @Benchmark
+    public ErrorDetail capturedNotFound() {
+        try {
+            throwAt(depth, Kind.CAPTURED);
+        } catch (EntityNotFoundException e) {
+            return handler.handleEntityNotFoundException(e).getBody().getDetail();
+        }
+
+        return null;
+    }
+
+    @Benchmark
+    public ErrorDetail stacklessNotFound() {
+        try {
+            throwAt(depth, Kind.STACKLESS);
+        } catch (EntityNotFoundException e) {
+            return handler.handleEntityNotFoundException(e).getBody().getDetail();
+        }
+
+        return null;
+    }
+
+    @Benchmark
+    public ErrorDetail cachedNotFound() {
+        try {
+            throwAt(depth, Kind.CACHED);
+        } catch (EntityNotFoundException e) {
+            return handler.handleEntityNotFoundException(e).getBody().getDetail();
+        }
+
+        return null;
+    }
+
+    private static void throwAt(int depth, Kind kind) {
+        if (depth > 0) {
+            throwAt(depth - 1, kind);
+            return;
+        }
+
+        throw switch (kind) {
+            case RUNTIME -> new RuntimeException(Messages.Error.ENTITY_NOT_FOUND);
+            case CAPTURED -> new EntityNotFoundException(Messages.Error.ENTITY_NOT_FOUND, true);
+            case STACKLESS -> new EntityNotFoundException(Messages.Error.ENTITY_NOT_FOUND);
+            case CACHED -> EntityNotFoundException.instance();
+        };
+    }
+
+    private enum Kind {RUNTIME, CAPTURED, STACKLESS, CACHED}
+}
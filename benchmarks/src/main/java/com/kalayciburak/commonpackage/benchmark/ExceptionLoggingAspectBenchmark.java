@@ -0,0 +1,79 @@
+package com.kalayciburak.commonpackage.benchmark;
+
+import com.kalayciburak.commonpackage.aspect.logging.ErrorLogAggregator;
+import com.kalayciburak.commonpackage.aspect.logging.ErrorLogProperties;
+import com.kalayciburak.commonpackage.aspect.logging.ErrorLogWriter;
+import com.kalayciburak.commonpackage.aspect.logging.ExceptionLoggingAspect;
+import com.kalayciburak.commonpackage.core.constant.Codes;
+import com.kalayciburak.commonpackage.core.constant.Messages;
+import com.kalayciburak.commonpackage.core.constant.Types;
+import com.kalayciburak.commonpackage.core.response.error.ErrorResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>{@link ExceptionLoggingAspect} advice'ının exception handler çağrısına eklediği maliyet.</b>
+ * <p>
+ * Aynı handler doğrudan ({@code direct}) ve aspect uygulanmış proxy üzerinden ({@code advised}) çağrılır.
+ * Advice error_log kaydını gerçek GELF encoder'ı ile encode eder ({@link DiscardingAppender});
+ * {@code aggregation=true} iken tekrarlayan hatalar yalnızca sayılır.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionLoggingAspectBenchmark {
+    @Param({"false", "true"})
+    private boolean aggregation;
+
+    private Handlers direct;
+    private Handlers advised;
+    private ErrorLogAggregator aggregator;
+    private IllegalStateException exception;
+
+    @Setup
+    public void setUp() {
+        var properties = new ErrorLogProperties();
+        properties.getAggregation().setEnabled(aggregation);
+        aggregator = new ErrorLogAggregator(properties);
+
+        direct = new Handlers();
+        var factory = new AspectJProxyFactory(new Handlers());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ExceptionLoggingAspect(new ErrorLogWriter(aggregator)));
+        advised = factory.getProxy();
+        exception = new IllegalStateException("Kayıt işlenemedi");
+    }
+
+    @TearDown
+    public void tearDown() {
+        aggregator.shutdown();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse<String>> direct() {
+        return direct.handle(exception);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse<String>> advised() {
+        return advised.handle(exception);
+    }
+
+    /**
+     * {@code BaseExceptionHandler} metodlarına benzeyen exception handler.
+     */
+    public static class Handlers {
+        @ExceptionHandler(IllegalStateException.class)
+        public ResponseEntity<ErrorResponse<String>> handle(IllegalStateException exception) {
+            var response = new ErrorResponse<>(Types.Error.RUNTIME, Codes.UNEXPECTED, Messages.Error.UNEXPECTED,
+                    HttpStatus.INTERNAL_SERVER_ERROR, exception);
+
+            return new ResponseEntity<>(response, response.getStatus());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.kalayciburak.commonpackage.benchmark;
+
+import com.kalayciburak.commonpackage.web.filter.config.ApiLogProperties;
+import com.kalayciburak.commonpackage.web.filter.logging.ApiLogPublisher;
+import com.kalayciburak.commonpackage.web.filter.logging.ApiLogSampler;
+import com.kalayciburak.commonpackage.web.filter.logging.LoggingFilter;
+import com.kalayciburak.commonpackage.web.filter.route.LogRouteResolver;
+import com.kalayciburak.commonpackage.web.metrics.ApiMetrics;
+import com.kalayciburak.commonpackage.web.metrics.ApiMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>{@link LoggingFilter}'ın istek başına eklediği maliyet.</b>
+ * <p>
+ * Handler request body'sini okuyup {@code bodySize} byte'lık JSON response yazar. Log kaydı senkron modda
+ * gerçek GELF encoder'ı ile encode edilir ({@link DiscardingAppender}). Filtrenin maliyeti
+ * {@code filtered} ile aynı mock istek/response kurulumunu içeren {@code unfiltered} arasındaki farktır.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggingFilterBenchmark {
+    private static final String URI = "/api/orders";
+
+    @Param({"0", "1024", "65536", "1048576"})
+    private int bodySize;
+
+    @Param({"BUFFERED", "STREAMING"})
+    private ApiLogProperties.CaptureMode captureMode;
+
+    private LoggingFilter filter;
+    private ApiLogPublisher publisher;
+    private HttpServlet servlet;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = json(bodySize);
+        var properties = new ApiLogProperties();
+        properties.setCaptureMode(captureMode);
+        publisher = new ApiLogPublisher(properties);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        var registryProvider = new StaticListableBeanFactory(Map.of("meterRegistry", registry))
+                .getBeanProvider(MeterRegistry.class);
+        var metrics = new ApiMetrics(registryProvider, new ApiMetricsProperties());
+
+        filter = new LoggingFilter(properties, publisher, new ApiLogSampler(properties),
+                new LogRouteResolver(properties), metrics);
+        servlet = new EchoServlet(body);
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filtered() throws ServletException, IOException {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, new MockFilterChain(servlet));
+
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse unfiltered() throws ServletException, IOException {
+        var response = new MockHttpServletResponse();
+        new MockFilterChain(servlet).doFilter(request(), response);
+
+        return response;
+    }
+
+    private MockHttpServletRequest request() {
+        var request = new MockHttpServletRequest("POST", URI);
+        request.setContentType("application/json");
+        request.setCharacterEncoding("UTF-8");
+        request.addHeader("Accept", "application/json");
+        request.addHeader("User-Agent", "jmh");
+        request.setContent(body);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+
+        return request;
+    }
+
+    /**
+     * Verilen boyutta tek string elemanlı bir JSON dizisi üretir ({@code ["aaa..."]}).
+     */
+    private static byte[] json(int size) {
+        if (size < 4) return new byte[0];
+        var bytes = new byte[size];
+        Arrays.fill(bytes, (byte) 'a');
+        bytes[0] = '[';
+        bytes[1] = '"';
+        bytes[size - 2] = '"';
+        bytes[size - 1] = ']';
+
+        return bytes;
+    }
+
+    /**
+     * Request body'sini tüketen ve sabit response body'si yazan handler.
+     */
+    private static final class EchoServlet extends HttpServlet {
+        private final transient byte[] body;
+
+        private EchoServlet(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            request.getInputStream().transferTo(OutputStream.nullOutputStream());
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getOutputStream().write(body);
+        }
+    }
+}
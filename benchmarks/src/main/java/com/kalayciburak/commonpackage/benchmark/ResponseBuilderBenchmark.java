@@ -0,0 +1,49 @@
+package com.kalayciburak.commonpackage.benchmark;
+
+import com.kalayciburak.commonpackage.core.constant.Messages;
+import com.kalayciburak.commonpackage.core.response.builder.ResponseBuilder;
+import com.kalayciburak.commonpackage.core.response.success.SuccessResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>{@link ResponseBuilder#createSuccessResponse(Object, String)} maliyeti.</b>
+ * <p>
+ * Mesajdan status code çıkaran anahtar kelime eşleştirmesi, status'un doğrudan verildiği
+ * {@link ResponseBuilder#createSuccessResponse(HttpStatus, Object, String)} ile karşılaştırılır.
+ * Eşleşmeyen mesaj ({@code NONE}) tüm metnin tarandığı en kötü durumdur.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseBuilderBenchmark {
+    @Param({"SAVED", "UPDATED", "DELETED", "FOUND", "NONE"})
+    private String message;
+
+    private String text;
+    private final List<String> data = List.of("a", "b", "c");
+
+    @Setup
+    public void setUp() {
+        text = switch (message) {
+            case "SAVED" -> Messages.Entity.SAVED;
+            case "UPDATED" -> Messages.Entity.UPDATED;
+            case "DELETED" -> Messages.Entity.DELETED;
+            case "FOUND" -> Messages.Entities.FOUND;
+            default -> "İşlem tamamlandı, sonuçlar aşağıda listelenmiştir ve ek bir aksiyon gerekmemektedir.";
+        };
+    }
+
+    @Benchmark
+    public SuccessResponse<List<String>> keywordMatched() {
+        return ResponseBuilder.createSuccessResponse(data, text);
+    }
+
+    @Benchmark
+    public SuccessResponse<List<String>> explicitStatus() {
+        return ResponseBuilder.createSuccessResponse(HttpStatus.OK, data, text);
+    }
+}
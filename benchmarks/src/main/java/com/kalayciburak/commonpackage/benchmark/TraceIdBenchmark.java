@@ -0,0 +1,68 @@
+package com.kalayciburak.commonpackage.benchmark;
+
+import com.kalayciburak.commonpackage.core.util.TraceIdGenerator;
+import com.kalayciburak.commonpackage.core.util.trace.TraceIdStrategies;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>{@link TraceIdGenerator} üretim maliyeti.</b>
+ * <p>
+ * {@code generate} değeri MDC'ye de yazdığından {@code newTraceId} ile karşılaştırılarak MDC maliyeti ayrıştırılır.
+ * {@code UUID} stratejisi ({@link java.util.UUID#randomUUID()}) paylaşılan {@code SecureRandom} kullandığından
+ * stratejiler 1, 8 ve 64 thread ile de karşılaştırılır.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TraceIdBenchmark {
+    @Param({"RANDOM", "TIME_ORDERED", "UUID"})
+    private TraceIdStrategies strategy;
+
+    @Setup
+    public void setUp() {
+        TraceIdGenerator.setStrategy(strategy);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.clear();
+        TraceIdGenerator.setStrategy(TraceIdStrategies.RANDOM);
+    }
+
+    @Benchmark
+    public String generate() {
+        return TraceIdGenerator.generate();
+    }
+
+    @Benchmark
+    public String newTraceId() {
+        return TraceIdGenerator.newTraceId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String newTraceIdThreads8() {
+        return TraceIdGenerator.newTraceId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String newTraceIdThreads64() {
+        return TraceIdGenerator.newTraceId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateThreads8() {
+        return TraceIdGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String generateThreads64() {
+        return TraceIdGenerator.generate();
+    }
+}
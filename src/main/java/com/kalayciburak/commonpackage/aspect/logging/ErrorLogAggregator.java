@@ -0,0 +1,193 @@
+package com.kalayciburak.commonpackage.aspect.logging;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.kalayciburak.commonpackage.core.constant.Messages.LogTemplate.AGGREGATED;
+import static com.kalayciburak.commonpackage.core.constant.Messages.LogTemplate.AGGREGATION_OVERFLOW;
+
+/**
+ * Aynı hatanın tekrarlarını toplayıp periyodik özet olarak loglayan bileşen.
+ *
+ * <p>
+ * Hatalar (handler, exception tipi, hata kodu, hata frame'i) anahtarıyla gruplanır. Bir
+ * pencere içindeki ilk tekrar tam olarak loglanır; sonrakiler yalnızca sayılır ve pencere
+ * kapandığında tekrar sayısı, ilk/son zaman ve örnek traceId'ler ile tek bir özet kaydı yazılır.
+ * Böylece bir bağımlılık çöktüğünde binlerce aynı GELF mesajı yerine pencere başına iki kayıt
+ * gönderilir.
+ * </p>
+ *
+ * <p>
+ * Takip edilen anahtar sayısı {@code maxKeys} ile sınırlıdır ve her pencere sonunda kapanan
+ * kayıtlar haritadan çıkarılır; fırtına süresince bellek kullanımı sabit kalır. Sınır dolduğunda
+ * yeni anahtarlar takip edilmeden tam olarak loglanır ve pencere sonunda takip edilemeyen kayıt
+ * sayısı özet olarak yazılır.
+ * </p>
+ */
+@Component
+public class ErrorLogAggregator {
+    private static final long CLOSED = Long.MIN_VALUE / 2;
+    private static final Logger log = LoggerFactory.getLogger(ExceptionLoggingAspect.class);
+
+    private final ErrorLogProperties.Aggregation settings;
+    private final ConcurrentMap<Key, Entry> entries;
+    private final LongAdder overflow = new LongAdder();
+    private final ScheduledExecutorService scheduler;
+
+    public ErrorLogAggregator(ErrorLogProperties properties) {
+        this.settings = properties.getAggregation();
+        if (settings.isEnabled()) {
+            this.entries = new ConcurrentHashMap<>();
+            long windowMs = Math.max(1, settings.getWindow().toMillis());
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("error-log-aggregator")
+                    .daemon()
+                    .factory());
+            this.scheduler.scheduleAtFixedRate(() -> flush(false), windowMs, windowMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.entries = null;
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Hatanın tam olarak loglanıp loglanmayacağını belirler ve tekrarları sayar.
+     *
+     * @param handler       Hatayı işleyen handler
+     * @param exceptionType Exception tipi
+     * @param errorCode     Hata kodu
+     * @param frame         Hatanın oluştuğu frame (yoksa null)
+     * @param traceId       İsteğin traceId'si
+     * @return true ise hata tam olarak loglanmalıdır
+     */
+    public boolean shouldLog(String handler, String exceptionType, String errorCode, String frame, String traceId) {
+        if (entries == null) return true;
+
+        var key = new Key(handler, exceptionType, errorCode, frame);
+        long now = System.currentTimeMillis();
+        while (true) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                if (entries.size() >= settings.getMaxKeys()) {
+                    overflow.increment();
+                    return true;
+                }
+                var existing = entries.putIfAbsent(key, new Entry(now, settings.getMaxSampleTraceIds()));
+                if (existing == null) return true;
+                entry = existing;
+            }
+
+            if (entry.count.incrementAndGet() > 0) {
+                entry.lastSeen = now;
+                entry.sample(traceId);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Penceresi dolan kayıtları haritadan çıkarır ve tekrar edenler için özet yazar.
+     *
+     * @param all true ise penceresi dolmamış kayıtlar da kapatılır
+     */
+    private void flush(boolean all) {
+        long now = System.currentTimeMillis();
+        long windowMs = settings.getWindow().toMillis();
+        for (var mapEntry : entries.entrySet()) {
+            var entry = mapEntry.getValue();
+            if (!all && now - entry.firstSeen < windowMs) continue;
+            if (!entries.remove(mapEntry.getKey(), entry)) continue;
+
+            long suppressed = entry.count.getAndSet(CLOSED);
+            if (suppressed > 0) logSummary(mapEntry.getKey(), entry, suppressed);
+        }
+
+        long untracked = overflow.sumThenReset();
+        if (untracked > 0) log.atError()
+                .addKeyValue("log_type", ErrorLogWriter.LOG_TYPE)
+                .addKeyValue("untracked_count", String.valueOf(untracked))
+                .log(AGGREGATION_OVERFLOW, untracked, settings.getMaxKeys());
+    }
+
+    /**
+     * Kapanmamış pencerelerin özetlerini yazar ve zamanlayıcıyı durdurur.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) return;
+        scheduler.shutdownNow();
+        flush(true);
+    }
+
+    private void logSummary(Key key, Entry entry, long suppressed) {
+        var firstSeen = Instant.ofEpochMilli(entry.firstSeen);
+        var lastSeen = Instant.ofEpochMilli(entry.lastSeen);
+        var sampleTraceIds = String.join(",", entry.samples());
+
+        log.atError()
+                .addKeyValue("log_type", ErrorLogWriter.LOG_TYPE)
+                .addKeyValue("aggregated", "true")
+                .addKeyValue("error_handler", key.handler())
+                .addKeyValue("exception_type", key.exceptionType())
+                .addKeyValue("error_code", key.errorCode())
+                .addKeyValue("error_frame", key.frame())
+                .addKeyValue("suppressed_count", String.valueOf(suppressed))
+                .addKeyValue("first_seen", firstSeen.toString())
+                .addKeyValue("last_seen", lastSeen.toString())
+                .addKeyValue("sample_trace_ids", sampleTraceIds)
+                .log(AGGREGATED, key.handler(), suppressed, key.exceptionType(), key.errorCode(),
+                        firstSeen, lastSeen, sampleTraceIds);
+    }
+
+    private record Key(String handler, String exceptionType, String errorCode, String frame) {}
+
+    /**
+     * Bir hata anahtarının pencere içindeki tekrar bilgisi.
+     * <p>
+     * {@code count} pencere kapatıldığında negatif bir değere çekilir; bu sırada artıran
+     * thread'ler kaydın kapandığını görerek yeni bir kayıt oluşturur.
+     */
+    private static final class Entry {
+        private final long firstSeen;
+        private volatile long lastSeen;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicReferenceArray<String> samples;
+        private final AtomicInteger sampleIndex = new AtomicInteger();
+
+        private Entry(long firstSeen, int maxSamples) {
+            this.firstSeen = firstSeen;
+            this.lastSeen = firstSeen;
+            this.samples = new AtomicReferenceArray<>(Math.max(0, maxSamples));
+        }
+
+        private void sample(String traceId) {
+            if (traceId == null || sampleIndex.get() >= samples.length()) return;
+            int index = sampleIndex.getAndIncrement();
+            if (index < samples.length()) samples.set(index, traceId);
+        }
+
+        private ArrayList<String> samples() {
+            var result = new ArrayList<String>(samples.length());
+            for (int i = 0; i < samples.length(); i++) {
+                var traceId = samples.get(i);
+                if (traceId != null) result.add(traceId);
+            }
+
+            return result;
+        }
+    }
+}
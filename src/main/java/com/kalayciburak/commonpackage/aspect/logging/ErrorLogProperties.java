@@ -0,0 +1,66 @@
+package com.kalayciburak.commonpackage.aspect.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * {@code error-log.*} altındaki hata loglama ayarlarını taşır.
+ * <p>
+ * Tüm değerlerin varsayılanı mevcut davranışı korur.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "error-log")
+public class ErrorLogProperties {
+    /**
+     * Exception handler sonuçlarının hangi mekanizma ile loglanacağı.
+     */
+    private Integration integration = Integration.ASPECT;
+
+    /**
+     * Aynı hatanın tekrarlarının özetlenmesine ait ayarlar.
+     */
+    private Aggregation aggregation = new Aggregation();
+
+    @Getter
+    @Setter
+    public static class Aggregation {
+        /**
+         * true ise aynı hatanın pencere içindeki tekrarları tek tek loglanmaz, özet olarak yazılır.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Tekrarların toplandığı zaman penceresi.
+         */
+        private Duration window = Duration.ofSeconds(60);
+
+        /**
+         * Aynı anda takip edilen maksimum farklı hata sayısı. Sınır dolduğunda yeni hatalar
+         * takip edilmeden loglanır.
+         */
+        private int maxKeys = 1024;
+
+        /**
+         * Özet kaydına eklenecek maksimum örnek traceId sayısı.
+         */
+        private int maxSampleTraceIds = 5;
+    }
+
+    public enum Integration {
+        /**
+         * {@code @ExceptionHandler} metodları AOP ile sarılır (varsayılan).
+         */
+        ASPECT,
+
+        /**
+         * Handler'ın döndüğü body yazılmadan önce {@code ResponseBodyAdvice} ile loglanır; AOP kullanılmaz.
+         */
+        ADVICE
+    }
+}
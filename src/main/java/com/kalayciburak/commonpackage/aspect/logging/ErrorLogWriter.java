@@ -0,0 +1,129 @@
+package com.kalayciburak.commonpackage.aspect.logging;
+
+import com.kalayciburak.commonpackage.core.response.error.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.stereotype.Component;
+
+import static com.kalayciburak.commonpackage.core.constant.Messages.LogTemplate.*;
+
+/**
+ * <b>Exception handler sonuçlarını error_log olarak yazan bileşen.</b>
+ * <p>
+ * {@link ExceptionLoggingAspect} ve {@link ErrorLoggingResponseBodyAdvice} aynı log formatını
+ * bu sınıf üzerinden üretir. Hata alanları MDC yerine SLF4J 2 fluent API'si ile doğrudan
+ * log olayına eklenir; böylece request thread'inin MDC'si değiştirilmez ve temizlenmesi gerekmez.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorLogWriter {
+    static final String LOG_TYPE = "error_log";
+    /**
+     * logback-spring.xml içindeki GELF yönlendirmesi {@link ExceptionLoggingAspect} logger'ına
+     * bağlı olduğundan aynı logger kullanılır.
+     */
+    private static final Logger log = LoggerFactory.getLogger(ExceptionLoggingAspect.class);
+
+    private final ErrorLogAggregator aggregator;
+
+    /**
+     * <b>Handler'dan dönen response'u loglar.</b>
+     *
+     * @param handlerInfo Handler bilgisi.
+     * @param traceId     Request traceId'si.
+     * @param response    Handler'dan dönen response ya da body.
+     */
+    public void log(String handlerInfo, String traceId, Object response) {
+        if (response instanceof ErrorResponse<?> errorResponse) logError(handlerInfo, traceId, errorResponse);
+        else logUnexpectedResponse(handlerInfo, traceId, response);
+    }
+
+    /**
+     * <b>Exception handler içinde oluşan beklenmeyen hatayı loglar.</b>
+     *
+     * @param handlerInfo Handler bilgisi.
+     * @param traceId     Request traceId'si.
+     * @param exception   Oluşan exception.
+     */
+    public void logHandlerFailure(String handlerInfo, String traceId, Throwable exception) {
+        errorEvent().setCause(exception).log(UNEXPECTED_ERROR, handlerInfo, traceId);
+    }
+
+    /**
+     * <b>Beklenmeyen response tiplerini loglar.</b>
+     *
+     * @param handlerInfo Handler bilgisi.
+     * @param traceId     Request traceId'si.
+     * @param response    Handler'dan dönen response.
+     */
+    private void logUnexpectedResponse(String handlerInfo, String traceId, Object response) {
+        errorEvent().log(WITH_RESPONSE, handlerInfo, traceId, response);
+    }
+
+    /**
+     * <b>Hata logunu yazar.</b>
+     * <p>
+     * Aggregation açıksa aynı hatanın pencere içindeki tekrarları {@link ErrorLogAggregator}
+     * tarafından sayılır ve yalnızca ilk tekrar tam olarak loglanır.
+     *
+     * @param handlerInfo   Handler bilgisi.
+     * @param traceId       Request traceId'si.
+     * @param errorResponse ErrorResponse nesnesi.
+     */
+    private void logError(String handlerInfo, String traceId, ErrorResponse<?> errorResponse) {
+        var message = errorResponse.getMessage();
+        var detail = errorResponse.getDetail();
+        var exceptionType = detail != null ? detail.getExceptionType() : errorResponse.getType();
+        var frame = detail != null && detail.hasFrame()
+                ? detail.getClassName() + "." + detail.getMethodName() + ":" + detail.getLineNumber()
+                : null;
+        if (!aggregator.shouldLog(handlerInfo, exceptionType, errorResponse.getCode(), frame, traceId)) return;
+
+        var event = errorEvent();
+        addErrorInfo(event, errorResponse);
+
+        if (detail != null) event.log(WITH_MESSAGE_AND_DETAIL, handlerInfo, traceId, message, detail);
+        else event.log(WITH_MESSAGE, handlerInfo, traceId, message);
+    }
+
+    /**
+     * <b>log_type alanı eklenmiş ERROR seviyesinde log olayı oluşturur.</b>
+     *
+     * @return Log olayı.
+     */
+    private LoggingEventBuilder errorEvent() {
+        return log.atError().addKeyValue("log_type", LOG_TYPE);
+    }
+
+    /**
+     * <b>Log olayına error bilgilerini ekler.</b>
+     *
+     * @param event         Log olayı.
+     * @param errorResponse ErrorResponse nesnesi.
+     */
+    private void addErrorInfo(LoggingEventBuilder event, ErrorResponse<?> errorResponse) {
+        event.addKeyValue("error_type", errorResponse.getType())
+                .addKeyValue("error_code", errorResponse.getCode())
+                .addKeyValue("http_status", String.valueOf(errorResponse.getStatus().value()));
+        if (errorResponse.getDetail() != null) addErrorDetail(event, errorResponse);
+    }
+
+    /**
+     * <b>Log olayına detaylı error bilgilerini ekler.</b>
+     * <p>
+     * Stack trace içermeyen exception'larda yalnızca exception tipi eklenir.
+     *
+     * @param event         Log olayı.
+     * @param errorResponse ErrorResponse nesnesi.
+     */
+    private void addErrorDetail(LoggingEventBuilder event, ErrorResponse<?> errorResponse) {
+        var detail = errorResponse.getDetail();
+        event.addKeyValue("exception_type", detail.getExceptionType());
+        if (!detail.hasFrame()) return;
+        event.addKeyValue("error_class", detail.getClassName())
+                .addKeyValue("error_method", detail.getMethodName())
+                .addKeyValue("error_line", String.valueOf(detail.getLineNumber()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.kalayciburak.commonpackage.aspect.logging;
+
+import com.kalayciburak.commonpackage.core.util.TraceIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <b>Exception handler sonuçlarını AOP kullanmadan loglayan {@link ResponseBodyAdvice}.</b>
+ * <p>
+ * {@code error-log.integration=ADVICE} olduğunda {@link ExceptionLoggingAspect} yerine kullanılır.
+ * Spring MVC {@code @ExceptionHandler} metodunun döndüğü body'yi yazmadan önce bu advice'ı
+ * çağırır; proxy ve join point oluşturulmaz. Handler isimleri her metod için bir kez
+ * hesaplanıp önbelleğe alınır. AOP kullanmayan servisler bu modda {@code aspectjweaver}
+ * bağımlılığını hariç tutabilir.
+ * <p>
+ * Handler'ın kendisi exception fırlatırsa body oluşmadığından bu modda loglanmaz; bu durum
+ * Spring MVC tarafından ayrıca loglanır.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "error-log.integration", havingValue = "advice")
+public class ErrorLoggingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+    private final ErrorLogWriter writer;
+    private final ConcurrentMap<MethodParameter, String> handlerNames = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ExceptionHandler.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        writer.log(handlerName(returnType), TraceIdGenerator.get(), body);
+
+        return body;
+    }
+
+    /**
+     * <b>Handler bilgisini önbellekten döner, yoksa bir kez hesaplar.</b>
+     * <p>
+     * {@link MethodParameter} eşitliği metoda ve handler'ı içeren sınıfa göre belirlendiğinden dönüş
+     * parametresi doğrudan anahtar olarak kullanılır; önbellekte bulunan handler için nesne oluşturulmaz.
+     *
+     * @param returnType Handler metodunun dönüş parametresi.
+     * @return {@code SınıfAdı.metodAdı} formatında handler bilgisi.
+     */
+    private String handlerName(MethodParameter returnType) {
+        var name = handlerNames.get(returnType);
+        if (name != null) return name;
+
+        return handlerNames.computeIfAbsent(returnType,
+                parameter -> parameter.getContainingClass().getSimpleName() + "." + parameter.getExecutable().getName());
+    }
+}
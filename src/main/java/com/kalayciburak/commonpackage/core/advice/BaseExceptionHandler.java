@@ -1,11 +1,15 @@
 package com.kalayciburak.commonpackage.core.advice;
 
+import com.kalayciburak.commonpackage.core.advice.exception.BusinessException;
 import com.kalayciburak.commonpackage.core.advice.exception.EntityNotFoundException;
 import com.kalayciburak.commonpackage.core.advice.exception.ResourceNotFoundException;
 import com.kalayciburak.commonpackage.core.constant.Codes;
 import com.kalayciburak.commonpackage.core.constant.Messages;
 import com.kalayciburak.commonpackage.core.constant.Types;
+import com.kalayciburak.commonpackage.core.response.error.ErrorDetail;
 import com.kalayciburak.commonpackage.core.response.error.ErrorResponse;
+import com.kalayciburak.commonpackage.web.metrics.ApiMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -20,11 +24,24 @@ import java.util.NoSuchElementException;
  * <b>Global exception handler.</b>
  * <p>
  * Tüm exception'ları yakalar ve standart response formatında döner.
- * Her response için otomatik olarak traceId üretilir ve MDC'ye eklenir.
+ * Her response request'in ingress'te belirlenen traceId'sini taşır.
  * Hata detayları frontend'e gönderilmez, sadece Graylog'a loglanır ve traceId ile aranabilir.
  */
 @RestControllerAdvice
 public class BaseExceptionHandler {
+    private ApiMetrics metrics;
+
+    /**
+     * <b>Hata sayılarının yayınlanacağı {@link ApiMetrics}'i ayarlar.</b>
+     * <p>
+     * Alt sınıfların constructor'larını değiştirmemek için setter ile enjekte edilir.
+     *
+     * @param metrics Hata metrikleri.
+     */
+    @Autowired(required = false)
+    public void setApiMetrics(ApiMetrics metrics) {
+        this.metrics = metrics;
+    }
 
     /**
      * <b>Genel exception'lar için handler.</b>
@@ -50,7 +67,7 @@ public class BaseExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse<?>> handleIllegalArgumentException(IllegalArgumentException exception) {
-        var error = new ErrorResponse<>(
+        var error = errorResponse(
                 Types.Error.ILLEGAL_ARGUMENT,
                 Codes.ILLEGAL_ARGUMENT,
                 Messages.Error.INVALID_ARGUMENT,
@@ -70,7 +87,7 @@ public class BaseExceptionHandler {
      */
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<ErrorResponse<?>> handleNoSuchElementException(NoSuchElementException exception) {
-        var error = new ErrorResponse<>(
+        var error = errorResponse(
                 Types.Error.NO_SUCH_ELEMENT,
                 Codes.NO_SUCH_ELEMENT,
                 Messages.Error.NO_SUCH_ELEMENT,
@@ -90,7 +107,7 @@ public class BaseExceptionHandler {
      */
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse<?>> handleResourceNotFoundException(ResourceNotFoundException exception) {
-        var error = new ErrorResponse<>(
+        var error = errorResponse(
                 Types.Error.RESOURCE_NOT_FOUND,
                 Codes.RESOURCE_NOT_FOUND,
                 Messages.Error.RESOURCE_NOT_FOUND,
@@ -110,7 +127,7 @@ public class BaseExceptionHandler {
      */
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorResponse<?>> handleEntityNotFoundException(EntityNotFoundException exception) {
-        var error = new ErrorResponse<>(
+        var error = errorResponse(
                 Types.Error.ENTITY_NOT_FOUND,
                 Codes.ENTITY_NOT_FOUND,
                 Messages.Error.ENTITY_NOT_FOUND,
@@ -131,7 +148,7 @@ public class BaseExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse<?>> handleMethodArgumentNotValidException(MethodArgumentNotValidException exception) {
         var validationErrors = extractValidationErrors(exception);
-        var error = new ErrorResponse<>(
+        var error = errorResponse(
                 Types.Error.VALIDATION,
                 Codes.METHOD_ARGUMENT_NOT_VALID,
                 validationErrors,
@@ -145,15 +162,53 @@ public class BaseExceptionHandler {
      * <b>ErrorResponse'u ResponseEntity olarak oluşturur.</b>
      * <p>
      * Hata detayları {@code @JsonIgnore} ile işaretlenmiştir ve frontend'e gönderilmez.
-     * TraceId korunur, böylece Graylog'da loglarda takip edilebilir.
+     * TraceId korunur, böylece Graylog'da loglarda takip edilebilir. Hata tip ve kod bazında
+     * {@link ApiMetrics}'e sayılır.
      *
      * @param errorResponse Oluşturulacak {@link ErrorResponse} nesnesi.
      * @return Frontend'e gönderilecek {@link ResponseEntity}.
      */
     public ResponseEntity<ErrorResponse<?>> buildResponseEntity(ErrorResponse<?> errorResponse) {
+        if (metrics != null) metrics.recordError(errorResponse.getType(), errorResponse.getCode());
         return new ResponseEntity<>(errorResponse, errorResponse.getStatus());
     }
 
+    /**
+     * <b>Exception için hata detayında frame bilgisinin (sınıf, metod, satır) çözülüp çözülmeyeceğini belirler.</b>
+     * <p>
+     * Stack trace üretmeden oluşturulan {@link BusinessException}'larda (örn. {@link EntityNotFoundException},
+     * {@link ResourceNotFoundException}) exception'ın fırlatıldığı yer bilgi taşımadığından frame çözülmez;
+     * hata storm'larında stack trace kopyalama maliyeti oluşmaz. Exception tipi ve mesajı her durumda loglanır.
+     * Servisler bu metodu override ederek davranışı değiştirebilir.
+     *
+     * @param exception Yakalanan exception.
+     * @return true ise hata detayı frame bilgisiyle loglanır.
+     */
+    protected boolean shouldCaptureDetail(Exception exception) {
+        return !(exception instanceof BusinessException business) || business.isStackTraceCaptured();
+    }
+
+    /**
+     * <b>Exception'ı cause olarak taşıyan {@link ErrorResponse} oluşturur.</b>
+     * <p>
+     * {@link #shouldCaptureDetail(Exception)} false dönerse detay stack trace'e bakılmadan yalnızca
+     * exception tipi ve mesajı ile oluşturulur.
+     *
+     * @param type      Hata tipi.
+     * @param code      Hata kodu.
+     * @param message   Kullanıcıya gösterilecek mesaj.
+     * @param status    HTTP status.
+     * @param exception Yakalanan exception.
+     * @param <T>       Mesaj tipi.
+     * @return Oluşturulan {@link ErrorResponse}.
+     */
+    private <T> ErrorResponse<T> errorResponse(String type, String code, T message, HttpStatus status, Exception exception) {
+        var error = new ErrorResponse<>(type, code, message, status, exception);
+        if (!shouldCaptureDetail(exception)) error.setDetail(ErrorDetail.withoutFrame(exception));
+
+        return error;
+    }
+
     /**
      * <b>Validation hatalarını Map formatında çıkarır.</b>
      * <p>
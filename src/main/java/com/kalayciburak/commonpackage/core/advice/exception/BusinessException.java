@@ -0,0 +1,32 @@
+package com.kalayciburak.commonpackage.core.advice.exception;
+
+/**
+ * Beklenen iş hataları için temel exception sınıfı.
+ * <p>
+ * Varsayılan olarak stack trace üretmez ve suppressed exception tutmaz; "kayıt bulunamadı"
+ * gibi sık fırlatılan ve {@code BaseExceptionHandler} tarafından doğrudan HTTP yanıtına
+ * çevrilen hatalarda {@code fillInStackTrace()} maliyeti oluşmaz. Hata yerinin loglanması
+ * gereken durumlarda {@code captureStackTrace=true} ile stack trace üretilebilir.
+ * <p>
+ * Stack trace içermeyen instance'lar değişmez olduğundan parametresiz durumlarda önbellekteki
+ * instance tekrar fırlatılabilir.
+ */
+public abstract class BusinessException extends RuntimeException {
+    private final boolean stackTraceCaptured;
+
+    protected BusinessException(String message) {
+        this(message, false);
+    }
+
+    protected BusinessException(String message, boolean captureStackTrace) {
+        super(message, null, false, captureStackTrace);
+        this.stackTraceCaptured = captureStackTrace;
+    }
+
+    /**
+     * @return Exception oluşturulurken stack trace üretildiyse true
+     */
+    public boolean isStackTraceCaptured() {
+        return stackTraceCaptured;
+    }
+}
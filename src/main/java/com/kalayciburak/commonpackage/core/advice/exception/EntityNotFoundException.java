@@ -1,10 +1,28 @@
 package com.kalayciburak.commonpackage.core.advice.exception;
 
+import com.kalayciburak.commonpackage.core.constant.Messages;
+
 /**
  * Herhangi bir entity bulunamadığında fırlatılacak exception sınıfı.
+ * <p>
+ * Varsayılan olarak stack trace üretmez. Mesajsız durumlar için {@link #instance()}
+ * önbellekteki instance'ı döner.
  */
-public class EntityNotFoundException extends RuntimeException {
+public class EntityNotFoundException extends BusinessException {
+    private static final EntityNotFoundException INSTANCE = new EntityNotFoundException(Messages.Error.ENTITY_NOT_FOUND);
+
     public EntityNotFoundException(String message) {
         super(message);
     }
+
+    public EntityNotFoundException(String message, boolean captureStackTrace) {
+        super(message, captureStackTrace);
+    }
+
+    /**
+     * @return Varsayılan mesajlı, önbellekteki stack trace'siz instance
+     */
+    public static EntityNotFoundException instance() {
+        return INSTANCE;
+    }
 }
@@ -1,11 +1,28 @@
 package com.kalayciburak.commonpackage.core.advice.exception;
 
+import com.kalayciburak.commonpackage.core.constant.Messages;
+
 /**
  * Herhangi bir kaynak bulunamadığında fırlatılacak exception sınıfı.
+ * <p>
+ * Varsayılan olarak stack trace üretmez. Mesajsız durumlar için {@link #instance()}
+ * önbellekteki instance'ı döner.
  */
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends BusinessException {
+    private static final ResourceNotFoundException INSTANCE = new ResourceNotFoundException(Messages.Error.RESOURCE_NOT_FOUND);
+
     public ResourceNotFoundException(String message) {
         super(message);
     }
-}
 
+    public ResourceNotFoundException(String message, boolean captureStackTrace) {
+        super(message, captureStackTrace);
+    }
+
+    /**
+     * @return Varsayılan mesajlı, önbellekteki stack trace'siz instance
+     */
+    public static ResourceNotFoundException instance() {
+        return INSTANCE;
+    }
+}
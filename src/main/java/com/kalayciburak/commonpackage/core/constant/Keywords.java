@@ -6,6 +6,11 @@ import java.util.List;
 import static com.kalayciburak.commonpackage.core.enums.Languages.EN_CREATION;
 import static com.kalayciburak.commonpackage.core.enums.Languages.TR_CREATION;
 
+/**
+ * @deprecated {@link com.kalayciburak.commonpackage.core.response.builder.KeywordRegistry} kullanın.
+ * Bu liste artık response status belirlemede kullanılmaz.
+ */
+@Deprecated(since = "1.0.1", forRemoval = true)
 public final class Keywords {
     private Keywords() {}
 
@@ -15,4 +20,4 @@ public final class Keywords {
         creationKeywords.addAll(TR_CREATION.getKeywords());
         creationKeywords.addAll(EN_CREATION.getKeywords());
     }
-}
\ No newline at end of file
+}
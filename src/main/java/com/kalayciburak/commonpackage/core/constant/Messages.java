@@ -44,6 +44,8 @@ public final class Messages {
         public static final String WITH_MESSAGE_AND_DETAIL = String.format("%s | Message: {} | Detail: {}", BASE);
         public static final String WITH_RESPONSE = String.format("%s | Response: {}", BASE);
         public static final String UNEXPECTED_ERROR = String.format("%s | %s", BASE, Error.UNEXPECTED);
+        public static final String AGGREGATED = "Handler: {} | Suppressed: {} | Type: {} | Code: {} | First: {} | Last: {} | TraceIds: {}";
+        public static final String AGGREGATION_OVERFLOW = "Untracked: {} | Aggregation key limit reached: {}";
 
         private LogTemplate() {}
     }
@@ -0,0 +1,25 @@
+package com.kalayciburak.commonpackage.core.enums;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * <b>Success mesajının ifade ettiği işlem türü.</b>
+ * <p>
+ * Tanım sırası önceliği belirler; bir mesaj birden fazla türe ait anahtar kelime içerirse
+ * en son tanımlanan tür seçilir. Örneğin "kayıt silindi" mesajı {@link #DELETION} olarak sınıflandırılır.
+ */
+@Getter
+public enum Intent {
+    CREATION(HttpStatus.CREATED),
+    MODIFICATION(HttpStatus.OK),
+    DELETION(HttpStatus.NO_CONTENT);
+
+    private final HttpStatus status;
+    private final String code;
+
+    Intent(HttpStatus status) {
+        this.status = status;
+        this.code = String.valueOf(status.value());
+    }
+}
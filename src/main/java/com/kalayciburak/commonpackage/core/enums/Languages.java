@@ -5,29 +5,50 @@ import lombok.Getter;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 @Getter
 @AllArgsConstructor
 public enum Languages {
-    TR_CREATION(Arrays.asList(
+    TR_CREATION(Locale.of("tr"), Intent.CREATION, Arrays.asList(
             "kaydedildi", "kayıt", "kaydet",
             "oluşturuldu", "oluşturmak", "ekledi", "ekleme",
             "yeni ekleme", "yeni kayıt", "yeni oluşturma",
             "eklendi", "ekle", "ekleme işlemi"
     )),
-    EN_CREATION(Arrays.asList(
+    EN_CREATION(Locale.ENGLISH, Intent.CREATION, Arrays.asList(
             "saved", "save", "insert", "created", "create",
             "added", "add", "adding", "new add", "new record"
     )),
-    FR_CREATION(Arrays.asList(
+    FR_CREATION(Locale.FRENCH, Intent.CREATION, Arrays.asList(
             "enregistré", "enregistrer", "insérer", "créé", "créer",
             "ajouté", "ajouter", "ajout", "nouvel ajout", "nouvel enregistrement"
     )),
-    TR_MODIFICATION(Arrays.asList(
+    TR_MODIFICATION(Locale.of("tr"), Intent.MODIFICATION, Arrays.asList(
             "güncellendi", "güncelle", "güncelleme",
             "değiştirildi", "değiştirme", "değiştir",
             "yenilendi", "yenileme", "yenile"
+    )),
+    EN_MODIFICATION(Locale.ENGLISH, Intent.MODIFICATION, Arrays.asList(
+            "updated", "update", "modified", "modify",
+            "changed", "change", "edited", "renewed"
+    )),
+    FR_MODIFICATION(Locale.FRENCH, Intent.MODIFICATION, Arrays.asList(
+            "mis à jour", "mettre à jour", "mise à jour",
+            "modifié", "modifier", "modification"
+    )),
+    TR_DELETION(Locale.of("tr"), Intent.DELETION, Arrays.asList(
+            "silindi", "silme", "silinmiş", "silme işlemi",
+            "kaldırıldı", "kaldırma"
+    )),
+    EN_DELETION(Locale.ENGLISH, Intent.DELETION, Arrays.asList(
+            "deleted", "delete", "removed", "remove"
+    )),
+    FR_DELETION(Locale.FRENCH, Intent.DELETION, Arrays.asList(
+            "supprimé", "supprimer", "suppression", "retiré"
     ));
 
+    private final Locale locale;
+    private final Intent intent;
     private final List<String> keywords;
-}
\ No newline at end of file
+}
@@ -1,7 +1,172 @@
 package com.kalayciburak.commonpackage.core.mapper;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * <b>Entity ve response nesneleri arasında dönüşüm yapan mapper.</b>
+ * <p>
+ * Implementasyonlar yalnızca tekil {@link #toResponse} ve {@link #toEntity} metodlarını yazar; toplu
+ * dönüşümler default metodlardan gelir. Liste dönüşümleri ara stream/liste oluşturmadan kaynak boyutunda
+ * bir diziye yazar. {@link #parallelThreshold()} override edilirse bu eşiği aşan listeler common
+ * fork-join pool üzerinde paralel dönüştürülür; bu durumda {@link #toResponse} ve {@link #toEntity}
+ * thread-safe olmalıdır.
+ *
+ * @param <RESPONSE> Response tipi.
+ * @param <ENTITY>   Entity tipi.
+ */
 public interface BaseMapper<RESPONSE, ENTITY> {
+    /**
+     * Paralel dönüşüm için önerilen eleman sayısı.
+     */
+    int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    /**
+     * Paralel dönüşümü kapatan eşik değeri.
+     */
+    int PARALLEL_DISABLED = Integer.MAX_VALUE;
+
     RESPONSE toResponse(ENTITY entity);
 
     ENTITY toEntity(RESPONSE response);
-}
\ No newline at end of file
+
+    /**
+     * <b>Paralel dönüşümün başlayacağı eleman sayısını döner.</b>
+     * <p>
+     * Varsayılan olarak paralel dönüşüm kapalıdır. Açmak için {@link #DEFAULT_PARALLEL_THRESHOLD}
+     * ya da ölçümle belirlenen bir değer döndürülmelidir.
+     *
+     * @return Eşik değeri.
+     */
+    default int parallelThreshold() {
+        return PARALLEL_DISABLED;
+    }
+
+    /**
+     * <b>Entity'leri response listesine dönüştürür.</b>
+     *
+     * @param entities Dönüştürülecek entity'ler.
+     * @return Değiştirilemez response listesi.
+     */
+    default List<RESPONSE> toResponseList(Collection<? extends ENTITY> entities) {
+        return mapAll(entities, this::toResponse, parallelThreshold());
+    }
+
+    /**
+     * <b>Response'ları entity listesine dönüştürür.</b>
+     *
+     * @param responses Dönüştürülecek response'lar.
+     * @return Değiştirilemez entity listesi.
+     */
+    default List<ENTITY> toEntityList(Collection<? extends RESPONSE> responses) {
+        return mapAll(responses, this::toEntity, parallelThreshold());
+    }
+
+    /**
+     * <b>Entity sayfasını response sayfasına dönüştürür.</b>
+     * <p>
+     * Sayfalama ve toplam kayıt bilgisi korunur.
+     *
+     * @param page Dönüştürülecek sayfa.
+     * @return Response sayfası.
+     */
+    default Page<RESPONSE> toResponsePage(Page<? extends ENTITY> page) {
+        return new PageImpl<>(toResponseList(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * <b>Entity slice'ını response slice'ına dönüştürür.</b>
+     *
+     * @param slice Dönüştürülecek slice.
+     * @return Response slice'ı.
+     */
+    default Slice<RESPONSE> toResponseSlice(Slice<? extends ENTITY> slice) {
+        return new SliceImpl<>(toResponseList(slice.getContent()), slice.getPageable(), slice.hasNext());
+    }
+
+    /**
+     * <b>Entity listesini kopyalamadan response görünümüne çevirir.</b>
+     * <p>
+     * Elemanlar her erişimde yeniden dönüştürülür; liste yalnızca bir kez gezilecekse
+     * (ör. serileştirme) kopya oluşturmamak için kullanılır. Kaynak listedeki değişiklikler görünüme yansır.
+     *
+     * @param entities Kaynak liste.
+     * @return Değiştirilemez, lazy response görünümü.
+     */
+    default List<RESPONSE> toResponseView(List<? extends ENTITY> entities) {
+        return new MappedListView<>(entities, this::toResponse);
+    }
+
+    /**
+     * <b>Entity iterator'ını elemanları okundukça dönüştüren response iterator'ına çevirir.</b>
+     *
+     * @param entities Kaynak iterator.
+     * @return Lazy response iterator'ı.
+     */
+    default Iterator<RESPONSE> toResponseIterator(Iterator<? extends ENTITY> entities) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entities.hasNext();
+            }
+
+            @Override
+            public RESPONSE next() {
+                return toResponse(entities.next());
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, T> List<T> mapAll(Collection<? extends S> source, Function<S, T> mapper, int parallelThreshold) {
+        if (source == null || source.isEmpty()) return List.of();
+
+        int size = source.size();
+        var target = new Object[size];
+        if (size >= parallelThreshold) {
+            var list = source instanceof List<? extends S> l && source instanceof RandomAccess ? l : new ArrayList<S>(source);
+            IntStream.range(0, size).parallel().forEach(i -> target[i] = mapper.apply(list.get(i)));
+        } else {
+            int i = 0;
+            for (S element : source) target[i++] = mapper.apply(element);
+        }
+
+        return Collections.unmodifiableList((List<T>) Arrays.asList(target));
+    }
+
+    /**
+     * Kaynak listenin elemanlarını erişim anında dönüştüren salt okunur liste.
+     */
+    final class MappedListView<S, T> extends AbstractList<T> {
+        private final List<? extends S> source;
+        private final Function<S, T> mapper;
+
+        private MappedListView(List<? extends S> source, Function<S, T> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public T get(int index) {
+            return mapper.apply(source.get(index));
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+}
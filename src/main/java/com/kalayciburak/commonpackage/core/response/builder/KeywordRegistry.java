@@ -0,0 +1,185 @@
+package com.kalayciburak.commonpackage.core.response.builder;
+
+import com.kalayciburak.commonpackage.core.enums.Intent;
+import com.kalayciburak.commonpackage.core.enums.Languages;
+import com.kalayciburak.commonpackage.core.util.KeywordMatcher;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <b>Success mesajlarını işlem türüne göre sınıflandıran anahtar kelime kaydı.</b>
+ * <p>
+ * Anahtar kelimeler locale ve {@link Intent} bazında indekslenir. Oluşturulduktan sonra değişmez;
+ * tüm anahtar kelimeler tek bir {@link KeywordMatcher} otomatına derlendiğinden sınıflandırma
+ * maliyeti dil veya anahtar kelime sayısı arttıkça değişmez.
+ * <p>
+ * Varsayılan kayıt {@link Languages} enum'undan yüklenir. Uygulama başlarken
+ * {@code response-keywords.*} ile eklenen anahtar kelimeler {@link #install(KeywordRegistry)}
+ * ile devreye alınır.
+ */
+public final class KeywordRegistry {
+    private static final Intent[] INTENTS = Intent.values();
+    private static final KeywordRegistry DEFAULTS = builder().addLanguages().build();
+
+    private static volatile KeywordRegistry current = DEFAULTS;
+
+    private final Map<Locale, Map<Intent, List<String>>> keywords;
+    private final KeywordMatcher matcher;
+    private final Map<Locale, KeywordMatcher> localeMatchers;
+
+    private KeywordRegistry(Map<Locale, Map<Intent, Set<String>>> source) {
+        var index = new HashMap<Locale, Map<Intent, List<String>>>();
+        var all = new EnumMap<Intent, List<String>>(Intent.class);
+        var perLocale = new HashMap<Locale, KeywordMatcher>();
+        source.forEach((locale, byIntent) -> {
+            var localeIndex = new EnumMap<Intent, List<String>>(Intent.class);
+            byIntent.forEach((intent, words) -> {
+                localeIndex.put(intent, List.copyOf(words));
+                all.computeIfAbsent(intent, i -> new ArrayList<>()).addAll(words);
+            });
+            index.put(locale, localeIndex);
+            perLocale.put(locale, compile(localeIndex));
+        });
+        this.keywords = Map.copyOf(index);
+        this.matcher = compile(all);
+        this.localeMatchers = Map.copyOf(perLocale);
+    }
+
+    /**
+     * @return {@link Languages} enum'undan yüklenen varsayılan kayıt
+     */
+    public static KeywordRegistry defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @return {@link ResponseBuilder} tarafından kullanılan aktif kayıt
+     */
+    public static KeywordRegistry current() {
+        return current;
+    }
+
+    /**
+     * <b>Aktif kaydı değiştirir.</b>
+     * <p>
+     * Uygulama başlarken bir kez çağrılması amaçlanmıştır.
+     *
+     * @param registry Kullanılacak kayıt.
+     */
+    public static void install(KeywordRegistry registry) {
+        current = registry == null ? DEFAULTS : registry;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * <b>Mesajın ifade ettiği işlem türünü belirler.</b>
+     * <p>
+     * Mesaj tüm dillerin anahtar kelimeleriyle tek geçişte taranır. Birden fazla tür eşleşirse
+     * {@link Intent} tanım sırasına göre en yüksek öncelikli tür döner.
+     *
+     * @param message Sınıflandırılacak mesaj.
+     * @return İşlem türü, eşleşme yoksa null.
+     */
+    public Intent classify(CharSequence message) {
+        return intentOf(matcher.match(message));
+    }
+
+    /**
+     * <b>Mesajı yalnızca verilen locale'in anahtar kelimeleriyle sınıflandırır.</b>
+     *
+     * @param message Sınıflandırılacak mesaj.
+     * @param locale  Mesajın dili. Kayıtta yoksa tüm diller kullanılır.
+     * @return İşlem türü, eşleşme yoksa null.
+     */
+    public Intent classify(CharSequence message, Locale locale) {
+        var localeMatcher = locale == null ? null : localeMatchers.get(Locale.of(locale.getLanguage()));
+
+        return localeMatcher == null ? classify(message) : intentOf(localeMatcher.match(message));
+    }
+
+    /**
+     * <b>Mesaja karşılık gelen response code'unu döner.</b>
+     *
+     * @param message Kontrol edilecek mesaj.
+     * @param fallback Eşleşme yoksa dönecek code.
+     * @return İşlem türünün code'u (201, 200 veya 204) ya da {@code fallback}.
+     */
+    public String statusCode(CharSequence message, String fallback) {
+        var intent = classify(message);
+
+        return intent == null ? fallback : intent.getCode();
+    }
+
+    /**
+     * @param locale Locale.
+     * @param intent İşlem türü.
+     * @return Kayıttaki anahtar kelimeler, yoksa boş liste
+     */
+    public List<String> keywords(Locale locale, Intent intent) {
+        return keywords.getOrDefault(locale, Map.of()).getOrDefault(intent, List.of());
+    }
+
+    /**
+     * @return Kayıtlı locale'ler
+     */
+    public Set<Locale> locales() {
+        return keywords.keySet();
+    }
+
+    private static KeywordMatcher compile(Map<Intent, ? extends Iterable<String>> byIntent) {
+        var categorized = new HashMap<Integer, Iterable<String>>();
+        byIntent.forEach((intent, words) -> categorized.put(1 << intent.ordinal(), words));
+
+        return KeywordMatcher.ofCategories(categorized);
+    }
+
+    private static Intent intentOf(int mask) {
+        return mask == 0 ? null : INTENTS[31 - Integer.numberOfLeadingZeros(mask)];
+    }
+
+    /**
+     * <b>{@link KeywordRegistry} oluşturucu.</b>
+     */
+    public static final class Builder {
+        private final Map<Locale, Map<Intent, Set<String>>> keywords = new HashMap<>();
+
+        private Builder() {}
+
+        /**
+         * {@link Languages} enum'undaki tüm anahtar kelimeleri ekler.
+         */
+        public Builder addLanguages() {
+            for (var language : Languages.values()) add(language.getLocale(), language.getIntent(), language.getKeywords());
+
+            return this;
+        }
+
+        /**
+         * @param locale   Anahtar kelimelerin dili.
+         * @param intent   İşlem türü.
+         * @param keywords Eklenecek anahtar kelimeler.
+         */
+        public Builder add(Locale locale, Intent intent, Iterable<String> keywords) {
+            var target = this.keywords
+                    .computeIfAbsent(Locale.of(locale.getLanguage()), l -> new EnumMap<>(Intent.class))
+                    .computeIfAbsent(intent, i -> new LinkedHashSet<>());
+            for (var keyword : keywords) if (keyword != null && !keyword.isBlank()) target.add(keyword);
+
+            return this;
+        }
+
+        public KeywordRegistry build() {
+            return new KeywordRegistry(keywords);
+        }
+    }
+}
@@ -1,30 +1,42 @@
 package com.kalayciburak.commonpackage.core.response.builder;
 
 import com.kalayciburak.commonpackage.core.response.common.Sizable;
+import com.kalayciburak.commonpackage.core.response.success.StreamingSuccessResponse;
 import com.kalayciburak.commonpackage.core.response.success.SuccessResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
-import static com.kalayciburak.commonpackage.core.constant.Keywords.creationKeywords;
+import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.HttpStatus.OK;
 
 /**
  * <b>Success response nesnelerini oluşturan builder class'ı.</b>
  * <p>
- * Her response için otomatik olarak traceId üretilir ve MDC'ye eklenir.
+ * Her response request'in ingress'te belirlenen traceId'sini taşır.
  * Bu sayede request yaşam döngüsü boyunca tüm loglar ilişkilendirilebilir.
  */
 public class ResponseBuilder {
+    private static final String OK_CODE = String.valueOf(OK.value());
+    private static final String CREATED_CODE = String.valueOf(CREATED.value());
+    private static final String NO_CONTENT_CODE = String.valueOf(NO_CONTENT.value());
+    private static final String NOT_FOUND_CODE = String.valueOf(NOT_FOUND.value());
+
     private ResponseBuilder() {}
 
     /**
      * <b>Data ve mesaj ile success response oluşturur.</b>
      * <p>
-     * HTTP status code, mesaj içeriğine göre otomatik belirlenir (CREATED veya OK).
+     * HTTP status code, mesaj içeriğine göre otomatik belirlenir (CREATED, OK veya NO_CONTENT).
      * TraceId otomatik üretilir ve response'a eklenir.
      *
      * @param data    Response'a eklenecek data.
@@ -69,6 +81,94 @@ public class ResponseBuilder {
         return new SuccessResponse<>(code, message, size, data);
     }
 
+    /**
+     * <b>Verilen HTTP status ile success response oluşturur.</b>
+     * <p>
+     * Mesaj içeriği incelenmez; status'un bilindiği sık çağrılan akışlarda anahtar kelime
+     * kontrolünü tamamen atlamak için kullanılır. TraceId otomatik üretilir.
+     *
+     * @param status  HTTP status.
+     * @param data    Response'a eklenecek data.
+     * @param message Kullanıcıya gösterilecek mesaj.
+     * @param <T>     Data tipi.
+     * @return Oluşturulan {@link SuccessResponse} nesnesi.
+     */
+    public static <T> SuccessResponse<T> createSuccessResponse(HttpStatus status, T data, String message) {
+        return createSuccessResponse(statusCode(status), data, message);
+    }
+
+    /**
+     * <b>Verilen HTTP status ile sadece mesaj içeren success response oluşturur.</b>
+     *
+     * @param status  HTTP status.
+     * @param message Kullanıcıya gösterilecek mesaj.
+     * @param <T>     Data tipi.
+     * @return Oluşturulan {@link SuccessResponse} nesnesi.
+     */
+    public static <T> SuccessResponse<T> createSuccessResponse(HttpStatus status, String message) {
+        return createSuccessResponse(status, null, message);
+    }
+
+    /**
+     * <b>Stream kaynağından streaming success response oluşturur.</b>
+     * <p>
+     * Elemanlar response yazılırken stream'den okunur ve stream yazma tamamlandığında kapatılır.
+     * Status code mesaj içeriğine göre belirlenir.
+     *
+     * @param data    Yazılacak elemanlar.
+     * @param message Kullanıcıya gösterilecek mesaj.
+     * @param <T>     Eleman tipi.
+     * @return Oluşturulan {@link StreamingSuccessResponse} nesnesi.
+     */
+    public static <T> StreamingSuccessResponse<T> createStreamingResponse(Stream<? extends T> data, String message) {
+        return new StreamingSuccessResponse<>(determineSuccessStatusCode(message), message, data.iterator(), null, data);
+    }
+
+    /**
+     * <b>Iterator kaynağından streaming success response oluşturur.</b>
+     *
+     * @param data    Yazılacak elemanlar.
+     * @param message Kullanıcıya gösterilecek mesaj.
+     * @param <T>     Eleman tipi.
+     * @return Oluşturulan {@link StreamingSuccessResponse} nesnesi.
+     */
+    public static <T> StreamingSuccessResponse<T> createStreamingResponse(Iterator<? extends T> data, String message) {
+        var source = data instanceof AutoCloseable closeable ? closeable : null;
+
+        return new StreamingSuccessResponse<>(determineSuccessStatusCode(message), message, data, null, source);
+    }
+
+    /**
+     * <b>Slice'tan streaming success response oluşturur.</b>
+     * <p>
+     * {@link Page}'in aksine toplam kayıt sayısı gerekmez; COUNT sorgusu çalışmaz.
+     * Sonraki sayfa bilgisi {@code hasNext} alanı olarak yazılır.
+     *
+     * @param data    Yazılacak sayfa.
+     * @param message Kullanıcıya gösterilecek mesaj.
+     * @param <T>     Eleman tipi.
+     * @return Oluşturulan {@link StreamingSuccessResponse} nesnesi.
+     */
+    public static <T> StreamingSuccessResponse<T> createStreamingResponse(Slice<? extends T> data, String message) {
+        return new StreamingSuccessResponse<>(determineSuccessStatusCode(message), message, data.iterator(),
+                data.hasNext(), null);
+    }
+
+    /**
+     * <b>Keyset/offset scroll {@link Window}'undan streaming success response oluşturur.</b>
+     * <p>
+     * Sonraki pencere bilgisi {@code hasNext} alanı olarak yazılır.
+     *
+     * @param data    Yazılacak pencere.
+     * @param message Kullanıcıya gösterilecek mesaj.
+     * @param <T>     Eleman tipi.
+     * @return Oluşturulan {@link StreamingSuccessResponse} nesnesi.
+     */
+    public static <T> StreamingSuccessResponse<T> createStreamingResponse(Window<? extends T> data, String message) {
+        return new StreamingSuccessResponse<>(determineSuccessStatusCode(message), message, data.iterator(),
+                data.hasNext(), null);
+    }
+
     /**
      * <b>Not found durumu için success response oluşturur.</b>
      * <p>
@@ -79,21 +179,36 @@ public class ResponseBuilder {
      * @return Oluşturulan {@link SuccessResponse} nesnesi.
      */
     public static <T> SuccessResponse<T> createNotFoundResponse(String message) {
-        return new SuccessResponse<>(String.valueOf(NOT_FOUND.value()), message, 0, null);
+        return new SuccessResponse<>(NOT_FOUND_CODE, message, 0, null);
     }
 
     /**
      * <b>Mesaj içeriğine göre HTTP status code belirler.</b>
+     * <p>
+     * Mesaj {@link KeywordRegistry} ile tek geçişte ve ara String üretmeden sınıflandırılır.
+     * Oluşturma 201, güncelleme 200, silme 204 döner; eşleşme yoksa 200 kullanılır.
      *
      * @param message Kontrol edilecek mesaj.
-     * @return CREATED (201) veya OK (200) status code.
+     * @return CREATED (201), OK (200) veya NO_CONTENT (204) status code.
      */
     private static String determineSuccessStatusCode(String message) {
-        return String.valueOf(creationKeywords.stream()
-                .map(String::toLowerCase)
-                .anyMatch(message.toLowerCase()::contains)
-                ? HttpStatus.CREATED.value()
-                : HttpStatus.OK.value());
+        return KeywordRegistry.current().statusCode(message, OK_CODE);
+    }
+
+    /**
+     * <b>HTTP status'u response code'una çevirir.</b>
+     *
+     * @param status HTTP status.
+     * @return Sık kullanılan status'lar için önbellekteki, diğerleri için yeni üretilen code.
+     */
+    private static String statusCode(HttpStatus status) {
+        return switch (status) {
+            case OK -> OK_CODE;
+            case CREATED -> CREATED_CODE;
+            case NO_CONTENT -> NO_CONTENT_CODE;
+            case NOT_FOUND -> NOT_FOUND_CODE;
+            default -> String.valueOf(status.value());
+        };
     }
 
     /**
@@ -0,0 +1,30 @@
+package com.kalayciburak.commonpackage.core.response.builder;
+
+import com.kalayciburak.commonpackage.core.enums.Intent;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code response-keywords.*} altındaki success mesajı anahtar kelime ayarlarını taşır.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "response-keywords")
+public class ResponseKeywordProperties {
+    /**
+     * false ise {@link com.kalayciburak.commonpackage.core.enums.Languages} içindeki varsayılan anahtar kelimeler yüklenmez.
+     */
+    private boolean includeDefaults = true;
+
+    /**
+     * Dil etiketi (ör. {@code tr}, {@code de}) ve işlem türü bazında eklenecek anahtar kelimeler.
+     */
+    private Map<String, Map<Intent, List<String>>> languages = new LinkedHashMap<>();
+}
@@ -10,13 +10,13 @@ import java.time.LocalDateTime;
 /**
  * <b>Tüm response tiplerinin base class'ı.</b>
  * <p>
- * Her response için otomatik olarak timestamp ve traceId üretir.
+ * Her response için otomatik olarak timestamp atar; request'in traceId'si varsa onu kullanır, yoksa üretir.
  * TraceId, request'in tüm yaşam döngüsü boyunca log kayıtlarında izlenebilmesini sağlar.
  */
 @Getter
 @Setter
 public abstract class Response {
-    @JsonFormat(pattern = "dd-MM-yyyy HH:mm:ss")
+    @JsonFormat(pattern = TimestampFormat.TEXT_PATTERN)
     protected LocalDateTime timestamp;
     protected String traceId;
     protected String type;
@@ -25,7 +25,7 @@ public abstract class Response {
     protected boolean success;
 
     /**
-     * <b>Response nesnesi oluşturur ve otomatik olarak timestamp ile traceId atar.</b>
+     * <b>Response nesnesi oluşturur ve otomatik olarak timestamp ile request'in traceId'sini atar.</b>
      *
      * @param type    Response tipi (SUCCESS, ERROR, vb.).
      * @param code    HTTP status code veya özel durum kodu.
@@ -34,7 +34,7 @@ public abstract class Response {
      */
     protected Response(String type, String code, Object message, boolean success) {
         this.timestamp = LocalDateTime.now();
-        this.traceId = TraceIdGenerator.generate();
+        this.traceId = TraceIdGenerator.getOrGenerate();
         this.type = type;
         this.code = code;
         this.message = message;
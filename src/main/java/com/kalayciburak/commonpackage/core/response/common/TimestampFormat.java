@@ -0,0 +1,28 @@
+package com.kalayciburak.commonpackage.core.response.common;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * <b>{@link Response#getTimestamp()} alanının serileştirme biçimi.</b>
+ */
+public enum TimestampFormat {
+    /**
+     * {@value #TEXT_PATTERN} formatında metin.
+     */
+    PATTERN,
+    /**
+     * Sistem saat dilimine göre epoch milisaniye.
+     */
+    EPOCH_MILLIS;
+
+    /**
+     * Metin timestamp'lerin tek kaynağı. {@link Response}'un {@code @JsonFormat} tanımı ve Jackson'ı
+     * kullanmadan yazan converter'lar bu değeri kullanır.
+     */
+    public static final String TEXT_PATTERN = "dd-MM-yyyy HH:mm:ss";
+
+    /**
+     * {@link #TEXT_PATTERN} için thread-safe formatter.
+     */
+    public static final DateTimeFormatter TEXT_FORMATTER = DateTimeFormatter.ofPattern(TEXT_PATTERN);
+}
@@ -3,11 +3,18 @@ package com.kalayciburak.commonpackage.core.response.error;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * <b>Hata detaylarını loglama amacıyla saklayan DTO.</b>
  * <p>
  * Bu bilgiler frontend'e gönderilmez ({@code @JsonIgnore} ile işaretlenmiştir).
  * Sadece Graylog'da traceId ile birlikte kaydedilir ve hata takibi için kullanılır.
+ * <p>
+ * {@link Throwable#getStackTrace()} her çağrıda tüm stack'i kopyaladığından stack yalnızca
+ * bir kez alınır ve tek bir frame seçilir. Hangi frame'in seçileceği {@link FrameSelection}
+ * ile belirlenir.
  */
 @Setter
 @Getter
@@ -21,21 +28,104 @@ public class ErrorDetail {
     private static final int NO_LINE_NUMBER = 0;
     private static final String UNKNOWN = "Bilinmiyor";
     private static final String NO_MESSAGE = "Mesaj yok";
+    private static final List<String> FRAMEWORK_PREFIXES = List.of(
+            "java.", "javax.", "jdk.", "sun.", "com.sun.", "jakarta.",
+            "org.springframework.", "org.apache.", "org.hibernate.", "org.aspectj.",
+            "com.fasterxml.", "com.kalayciburak.commonpackage.");
+
+    private static volatile FrameSelection frameSelection = FrameSelection.TOP;
+    private static volatile List<String> applicationPackages = List.of();
+
+    /**
+     * <b>Stack trace'ten hangi frame'in seçileceğini belirler.</b>
+     */
+    public enum FrameSelection {
+        /**
+         * Exception'ın fırlatıldığı ilk frame (varsayılan).
+         */
+        TOP,
+
+        /**
+         * JDK, framework ve bu kütüphaneye ait frame'ler atlanarak bulunan ilk uygulama frame'i.
+         * Bulunamazsa ilk frame kullanılır.
+         */
+        FIRST_APPLICATION
+    }
 
     /**
      * <b>Throwable nesnesinden hata detaylarını çıkarır.</b>
      * <p>
-     * Stack trace'in ilk elemanından sınıf adı, metod adı ve satır numarası alınır.
+     * Seçilen frame'den sınıf adı, metod adı ve satır numarası alınır.
      * Exception mesajı ve tipi de saklanır.
      *
      * @param cause Hata nedeni.
      */
     public ErrorDetail(Throwable cause) {
-        boolean hasStackTrace = cause != null && cause.getStackTrace().length > 0;
-        if (hasStackTrace) fillFromCause(cause);
+        var stackTrace = cause != null ? cause.getStackTrace() : null;
+        if (stackTrace != null && stackTrace.length > 0) fillFromCause(cause, selectFrame(stackTrace));
         else fillWithDefaults();
     }
 
+    private ErrorDetail() {}
+
+    /**
+     * <b>Exception için hata detayı oluşturur.</b>
+     * <p>
+     * Stack trace yalnızca bir kez alınır. Stack trace içermeyen exception'larda yalnızca
+     * exception tipi ve mesajı doldurulur; sınıf, metod ve satır bilgisi boş kalır.
+     *
+     * @param cause Hata nedeni.
+     * @return Hata detayı, exception yoksa null.
+     */
+    public static ErrorDetail of(Throwable cause) {
+        if (cause == null) return null;
+        var stackTrace = cause.getStackTrace();
+
+        var detail = new ErrorDetail();
+        if (stackTrace.length > 0) detail.fillFromCause(cause, selectFrame(stackTrace));
+        else detail.fillWithoutFrame(cause);
+
+        return detail;
+    }
+
+    /**
+     * <b>Stack trace'e bakmadan yalnızca exception tipi ve mesajı ile hata detayı oluşturur.</b>
+     * <p>
+     * Frame çözümlemesinin istenmediği durumlarda kullanılır; stack trace kopyalanmaz.
+     *
+     * @param cause Hata nedeni.
+     * @return Hata detayı, exception yoksa null.
+     */
+    public static ErrorDetail withoutFrame(Throwable cause) {
+        if (cause == null) return null;
+
+        var detail = new ErrorDetail();
+        detail.fillWithoutFrame(cause);
+
+        return detail;
+    }
+
+    /**
+     * <b>Detayın bir stack trace frame'inden oluşturulup oluşturulmadığını döner.</b>
+     *
+     * @return Sınıf, metod ve satır bilgisi varsa true.
+     */
+    public boolean hasFrame() {
+        return className != null;
+    }
+
+    /**
+     * <b>Frame seçim modunu değiştirir.</b>
+     *
+     * @param selection           Kullanılacak mod.
+     * @param applicationPackages Uygulama paketleri; boş değilse {@link FrameSelection#FIRST_APPLICATION}
+     *                            modunda bu paketlerle başlayan ilk frame seçilir.
+     */
+    public static void configure(FrameSelection selection, List<String> applicationPackages) {
+        ErrorDetail.frameSelection = Objects.requireNonNull(selection, "selection");
+        ErrorDetail.applicationPackages = List.copyOf(applicationPackages);
+    }
+
     /**
      * <b>Hata detaylarını okunabilir string formatında döner.</b>
      * <p>
@@ -45,6 +135,10 @@ public class ErrorDetail {
      */
     @Override
     public String toString() {
+        if (!hasFrame()) return String.format("[%s]: %s",
+                exceptionType != null ? exceptionType : UNKNOWN,
+                debugMessage != null ? debugMessage : NO_MESSAGE);
+
         return String.format("[%s] %s sınıfındaki %s metodunda (satır %d): %s",
                 exceptionType != null ? exceptionType : UNKNOWN,
                 className != null ? className : UNKNOWN,
@@ -56,13 +150,13 @@ public class ErrorDetail {
     /**
      * <b>Throwable nesnesinden hata detaylarını doldurur.</b>
      * <p>
-     * Stack trace'in ilk elemanından sınıf, metod ve satır bilgilerini alır.
+     * Seçilen frame'den sınıf, metod ve satır bilgilerini alır.
      * Ayrıca exception tipi ve mesajı da kaydedilir.
      *
-     * @param cause Hata nedeni (stack trace içermelidir).
+     * @param cause   Hata nedeni.
+     * @param element Seçilen stack trace frame'i.
      */
-    private void fillFromCause(Throwable cause) {
-        var element = cause.getStackTrace()[0];
+    private void fillFromCause(Throwable cause, StackTraceElement element) {
         this.className = element.getClassName();
         this.methodName = element.getMethodName();
         this.lineNumber = element.getLineNumber();
@@ -70,6 +164,16 @@ public class ErrorDetail {
         this.exceptionType = cause.getClass().getSimpleName();
     }
 
+    /**
+     * <b>Stack trace içermeyen exception'dan yalnızca tip ve mesaj bilgisini doldurur.</b>
+     *
+     * @param cause Hata nedeni.
+     */
+    private void fillWithoutFrame(Throwable cause) {
+        this.debugMessage = cause.getMessage();
+        this.exceptionType = cause.getClass().getSimpleName();
+    }
+
     /**
      * <b>Geçerli bir {@link Throwable} nesnesi bulunamadığında varsayılan değerleri atar.</b>
      * <p>
@@ -82,4 +186,31 @@ public class ErrorDetail {
         this.debugMessage = NO_MESSAGE;
         this.exceptionType = UNKNOWN;
     }
-}
\ No newline at end of file
+
+    /**
+     * <b>Yapılandırılan moda göre loglanacak frame'i seçer.</b>
+     *
+     * @param stackTrace Boş olmayan stack trace.
+     * @return Seçilen frame.
+     */
+    private static StackTraceElement selectFrame(StackTraceElement[] stackTrace) {
+        if (frameSelection == FrameSelection.TOP) return stackTrace[0];
+        for (var element : stackTrace) {
+            if (isApplicationFrame(element.getClassName())) return element;
+        }
+
+        return stackTrace[0];
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        if (className.contains("$$")) return false;
+        var packages = applicationPackages;
+        if (!packages.isEmpty()) {
+            for (var prefix : packages) if (className.startsWith(prefix)) return true;
+            return false;
+        }
+        for (var prefix : FRAMEWORK_PREFIXES) if (className.startsWith(prefix)) return false;
+
+        return true;
+    }
+}
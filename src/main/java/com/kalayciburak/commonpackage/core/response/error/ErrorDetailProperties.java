@@ -0,0 +1,29 @@
+package com.kalayciburak.commonpackage.core.response.error;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code error-detail.*} altındaki hata detayı ayarlarını taşır.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "error-detail")
+public class ErrorDetailProperties {
+    /**
+     * Loglanacak stack trace frame'inin nasıl seçileceği.
+     */
+    private ErrorDetail.FrameSelection frameSelection = ErrorDetail.FrameSelection.TOP;
+
+    /**
+     * {@code FIRST_APPLICATION} modunda uygulama frame'i sayılacak paket önekleri.
+     * Boşsa JDK ve framework paketleri dışındaki ilk frame seçilir.
+     */
+    private List<String> applicationPackages = new ArrayList<>();
+}
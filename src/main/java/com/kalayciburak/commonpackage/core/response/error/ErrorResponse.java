@@ -5,6 +5,7 @@ import com.kalayciburak.commonpackage.core.constant.Codes;
 import com.kalayciburak.commonpackage.core.constant.Messages;
 import com.kalayciburak.commonpackage.core.constant.Types;
 import com.kalayciburak.commonpackage.core.response.common.Response;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.http.HttpStatus;
@@ -13,7 +14,8 @@ import org.springframework.http.HttpStatus;
  * <b>Hata durumlarını temsil eden response nesnesi.</b>
  * <p>
  * ErrorDetail bilgileri frontend'e gönderilmez, sadece backend'de loglanır.
- * Graylog'da traceId ile birlikte aranabilir.
+ * Graylog'da traceId ile birlikte aranabilir. Detay ilk kez okunduğunda oluşturulur;
+ * loglanmayan hatalar için stack trace hiç kopyalanmaz.
  */
 @Setter
 @Getter
@@ -23,11 +25,16 @@ public class ErrorResponse<T> extends Response {
     @JsonIgnore
     private ErrorDetail detail;
 
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Throwable cause;
+
     /**
      * <b>Belirli hata bilgileri ve neden ile yeni bir {@code ErrorResponse} nesnesi oluşturur.</b>
      * <p>
      * Hata detayları internal olarak saklanır ve loglama için kullanılır.
-     * Otomatik olarak traceId üretilir ve MDC'ye eklenir.
+     * TraceId request'in trace bilgisinden alınır.
      *
      * @param type    Hata tipi.
      * @param code    Hata kodu.
@@ -65,18 +72,32 @@ public class ErrorResponse<T> extends Response {
         super(response.type, response.code, response.message, false, response.traceId);
         this.status = response.status;
         this.detail = response.detail;
+        this.cause = response.cause;
     }
 
     /**
-     * <b>Hata nedenine ait detayları doldurur.</b>
+     * <b>Hata detayını döner, ilk çağrıda exception'dan oluşturur.</b>
      * <p>
      * Frontend'e gönderilmez, sadece loglama için kullanılır.
      * Graylog'da traceId üzerinden izlenebilir.
      *
+     * @return Hata detayı, exception yoksa null.
+     */
+    public ErrorDetail getDetail() {
+        if (detail == null && cause != null) {
+            detail = ErrorDetail.of(cause);
+            cause = null;
+        }
+
+        return detail;
+    }
+
+    /**
+     * <b>Hata nedenini detayın sonradan oluşturulması için saklar.</b>
+     *
      * @param cause Hata nedeni olarak kullanılan {@link Throwable} nesnesi.
      */
     private void populateErrorDetails(Throwable cause) {
-        boolean hasStackTrace = cause != null && cause.getStackTrace().length > 0;
-        if (hasStackTrace) this.detail = new ErrorDetail(cause);
+        this.cause = cause;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.kalayciburak.commonpackage.core.response.error;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code error-response.*} altındaki hata response ayarlarını taşır.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "error-response")
+public class ErrorResponseProperties {
+    /**
+     * true ise sabit mesajlı {@link ErrorResponse} gövdeleri önceden serileştirilmiş şablonlardan yazılır.
+     */
+    private boolean preSerialized = false;
+}
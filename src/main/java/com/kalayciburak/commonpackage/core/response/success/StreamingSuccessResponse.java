@@ -0,0 +1,80 @@
+package com.kalayciburak.commonpackage.core.response.success;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.kalayciburak.commonpackage.core.response.common.Response;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.kalayciburak.commonpackage.core.constant.Types.Response.SUCCESS;
+
+/**
+ * <b>Data'sı parça parça yazılan başarılı response nesnesi.</b>
+ * <p>
+ * {@link SuccessResponse}'un aksine data bellekte bir liste olarak tutulmaz. Envelope alanları
+ * (timestamp, traceId, type, code, message, success) yazıldıktan sonra elemanlar kaynaktan okundukça
+ * tek tek serileştirilir; {@code size} alanı en sona yazılır. Böylece milyonlarca satırlık export'larda
+ * bellek kullanımı sabit kalır ve {@code Page}'in gerektirdiği COUNT sorgusu çalışmaz.
+ * <p>
+ * Yazma işlemi {@code StreamingSuccessResponseConverter} tarafından yapılır. Kaynak bir veritabanı
+ * {@link Stream}'i ise response yazılana kadar açık kalması gereken transaction/bağlantı çağıran tarafın
+ * sorumluluğundadır; kaynak yazma tamamlandığında {@link #close()} ile kapatılır.
+ *
+ * @param <T> Eleman tipi.
+ */
+@Getter
+@Setter
+public class StreamingSuccessResponse<T> extends Response implements AutoCloseable {
+    /**
+     * Slice/Window kaynaklarında sonraki sayfanın olup olmadığı; diğer kaynaklarda null.
+     */
+    @JsonIgnore
+    private final Boolean hasNext;
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final transient Iterator<? extends T> elements;
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final transient AutoCloseable source;
+
+    /**
+     * <b>Streaming success response nesnesi oluşturur.</b>
+     *
+     * @param code     HTTP status code.
+     * @param message  Kullanıcıya gösterilecek başarı mesajı.
+     * @param elements Yazılacak elemanlar.
+     * @param hasNext  Sonraki sayfa bilgisi, yoksa null.
+     * @param source   Yazma tamamlandığında kapatılacak kaynak, yoksa null.
+     */
+    public StreamingSuccessResponse(String code, String message, Iterator<? extends T> elements,
+                                    Boolean hasNext, AutoCloseable source) {
+        super(SUCCESS, code, message, true);
+        this.elements = elements;
+        this.hasNext = hasNext;
+        this.source = source;
+    }
+
+    /**
+     * @return Henüz yazılmamış elemanlar. Yalnızca bir kez tüketilebilir.
+     */
+    public Iterator<? extends T> elements() {
+        return elements;
+    }
+
+    /**
+     * <b>Kaynağı kapatır.</b>
+     * <p>
+     * Converter tarafından yazma tamamlandığında ya da hata oluştuğunda çağrılır.
+     */
+    @Override
+    public void close() throws Exception {
+        if (source != null) source.close();
+    }
+}
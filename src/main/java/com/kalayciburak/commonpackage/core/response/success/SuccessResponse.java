@@ -9,7 +9,7 @@ import static com.kalayciburak.commonpackage.core.constant.Types.Response.SUCCES
 /**
  * <b>Başarılı işlemleri temsil eden response nesnesi.</b>
  * <p>
- * Her response için otomatik olarak traceId üretilir ve MDC'ye eklenir.
+ * Her response request'in ingress'te belirlenen traceId'sini taşır.
  * TraceId, request'in tüm yaşam döngüsü boyunca log kayıtlarında izlenebilmesini sağlar.
  */
 @Getter
@@ -21,7 +21,7 @@ public class SuccessResponse<T> extends Response {
     /**
      * <b>Success response nesnesi oluşturur.</b>
      * <p>
-     * TraceId otomatik üretilir ve hem response'a hem de MDC'ye eklenir.
+     * TraceId request'in trace bilgisinden alınır, request dışında ise üretilir.
      *
      * @param code    HTTP status code.
      * @param message Kullanıcıya gösterilecek başarı mesajı.
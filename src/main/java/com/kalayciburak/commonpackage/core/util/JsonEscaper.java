@@ -0,0 +1,69 @@
+package com.kalayciburak.commonpackage.core.util;
+
+import static com.kalayciburak.commonpackage.core.constant.Messages.Error.UNSUPPORTED_OPERATION;
+
+/**
+ * <b>String değerlerini ara nesne üretmeden JSON string literal'i olarak yazar.</b>
+ * <p>
+ * Jackson ağacı kurmadan, doğrudan verilen {@link StringBuilder} üzerine RFC 8259
+ * kurallarına uygun kaçış karakterleri ile yazma yapar. Log ve sabit response
+ * gövdeleri gibi sık üretilen küçük JSON parçaları için kullanılır.
+ */
+public final class JsonEscaper {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonEscaper() {
+        throw new UnsupportedOperationException(UNSUPPORTED_OPERATION);
+    }
+
+    /**
+     * <b>Değeri tırnaklar dahil JSON string olarak yazar.</b>
+     * <p>
+     * Null değerler {@code null} literal'i olarak yazılır.
+     *
+     * @param target Yazılacak hedef.
+     * @param value  Yazılacak değer.
+     * @return Hedef {@link StringBuilder}.
+     */
+    public static StringBuilder appendQuoted(StringBuilder target, CharSequence value) {
+        if (value == null) return target.append("null");
+        target.append('"');
+        appendEscaped(target, value);
+
+        return target.append('"');
+    }
+
+    /**
+     * <b>Değeri tırnaksız, kaçış karakterleri uygulanmış olarak yazar.</b>
+     *
+     * @param target Yazılacak hedef.
+     * @param value  Yazılacak değer.
+     * @return Hedef {@link StringBuilder}.
+     */
+    public static StringBuilder appendEscaped(StringBuilder target, CharSequence value) {
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') continue;
+            target.append(value, start, i);
+            appendEscapedChar(target, c);
+            start = i + 1;
+        }
+
+        return target.append(value, start, length);
+    }
+
+    private static void appendEscapedChar(StringBuilder target, char c) {
+        switch (c) {
+            case '"' -> target.append("\\\"");
+            case '\\' -> target.append("\\\\");
+            case '\n' -> target.append("\\n");
+            case '\r' -> target.append("\\r");
+            case '\t' -> target.append("\\t");
+            case '\b' -> target.append("\\b");
+            case '\f' -> target.append("\\f");
+            default -> target.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+        }
+    }
+}
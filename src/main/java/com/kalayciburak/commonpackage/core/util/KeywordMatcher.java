@@ -0,0 +1,198 @@
+package com.kalayciburak.commonpackage.core.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * <b>Birden fazla anahtar kelimeyi tek geçişte arayan Aho–Corasick otomatı.</b>
+ * <p>
+ * Anahtar kelimeler oluşturulurken bir kez DFA tablosuna derlenir. Eşleştirme metin üzerinde
+ * karakter karakter tek geçiş yapar, ara String üretmez ve maliyeti anahtar kelime sayısından
+ * bağımsızdır. Her anahtar kelime bir kategori bitine bağlanır; sonuç, metinde geçen anahtar
+ * kelimelerin kategori bitlerinin birleşimidir.
+ * <p>
+ * Karşılaştırma büyük/küçük harf duyarsızdır ve locale'den bağımsızdır. Türkçedeki
+ * {@code I/ı/İ/i} farkı nedeniyle bu dört harf aynı kabul edilir; böylece "KAYIT" hem
+ * Türkçe hem İngilizce locale'de "kayıt" ile eşleşir.
+ */
+public final class KeywordMatcher {
+    private static final int DIRECT_TABLE_SIZE = 0x250;
+
+    private final int[] directIds = new int[DIRECT_TABLE_SIZE];
+    private final char[] extraChars;
+    private final int[] extraIds;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[] outputs;
+
+    private KeywordMatcher(Map<String, Integer> keywords) {
+        var alphabet = new TreeSet<Character>();
+        for (var keyword : keywords.keySet()) for (int i = 0; i < keyword.length(); i++) alphabet.add(keyword.charAt(i));
+
+        var extra = new ArrayList<Character>();
+        int id = 1;
+        for (char c : alphabet) {
+            if (c < DIRECT_TABLE_SIZE) directIds[c] = id++;
+            else extra.add(c);
+        }
+        this.extraChars = new char[extra.size()];
+        this.extraIds = new int[extra.size()];
+        for (int i = 0; i < extra.size(); i++) {
+            extraChars[i] = extra.get(i);
+            extraIds[i] = id++;
+        }
+        this.alphabetSize = id;
+
+        var trie = buildTrie(keywords);
+        this.outputs = new int[trie.size()];
+        this.transitions = new int[trie.size() * alphabetSize];
+        buildAutomaton(trie);
+    }
+
+    /**
+     * <b>Tek kategorili bir matcher oluşturur.</b>
+     *
+     * @param keywords Anahtar kelimeler.
+     * @return Derlenmiş matcher.
+     */
+    public static KeywordMatcher of(Iterable<String> keywords) {
+        var categorized = new HashMap<String, Integer>();
+        for (var keyword : keywords) add(categorized, keyword, 1);
+
+        return new KeywordMatcher(categorized);
+    }
+
+    /**
+     * <b>Kategori bitleri ile eşlenmiş anahtar kelimelerden matcher oluşturur.</b>
+     *
+     * @param keywordsByCategory Kategori biti (en fazla 32 kategori) ve o kategoriye ait anahtar kelimeler.
+     * @return Derlenmiş matcher.
+     */
+    public static KeywordMatcher ofCategories(Map<Integer, ? extends Iterable<String>> keywordsByCategory) {
+        var categorized = new HashMap<String, Integer>();
+        keywordsByCategory.forEach((category, keywords) -> {
+            for (var keyword : keywords) add(categorized, keyword, category);
+        });
+
+        return new KeywordMatcher(categorized);
+    }
+
+    /**
+     * <b>Metinde herhangi bir anahtar kelime geçip geçmediğini kontrol eder.</b>
+     *
+     * @param text Aranacak metin.
+     * @return Eşleşme varsa true.
+     */
+    public boolean matches(CharSequence text) {
+        return match(text) != 0;
+    }
+
+    /**
+     * <b>Metinde geçen anahtar kelimelerin kategori bitlerini döner.</b>
+     *
+     * @param text Aranacak metin.
+     * @return Eşleşen kategorilerin bit birleşimi, eşleşme yoksa 0.
+     */
+    public int match(CharSequence text) {
+        if (text == null) return 0;
+
+        int state = 0;
+        int result = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state * alphabetSize + charId(fold(text.charAt(i)))];
+            result |= outputs[state];
+        }
+
+        return result;
+    }
+
+    /**
+     * <b>Karakteri karşılaştırma için normalize eder.</b>
+     *
+     * @param c Karakter.
+     * @return Küçük harfe çevrilmiş, Türkçe i harfleri birleştirilmiş karakter.
+     */
+    static char fold(char c) {
+        return switch (c) {
+            case 'I', 'ı', 'İ' -> 'i';
+            default -> Character.toLowerCase(c);
+        };
+    }
+
+    private int charId(char c) {
+        if (c < DIRECT_TABLE_SIZE) return directIds[c];
+        int index = Arrays.binarySearch(extraChars, c);
+
+        return index >= 0 ? extraIds[index] : 0;
+    }
+
+    private static void add(Map<String, Integer> categorized, String keyword, int category) {
+        if (keyword == null || keyword.isEmpty()) return;
+        var folded = new StringBuilder(keyword.length());
+        for (int i = 0; i < keyword.length(); i++) folded.append(fold(keyword.charAt(i)));
+        categorized.merge(folded.toString(), category, (a, b) -> a | b);
+    }
+
+    private List<Node> buildTrie(Map<String, Integer> keywords) {
+        var nodes = new ArrayList<Node>();
+        nodes.add(new Node());
+        keywords.forEach((keyword, category) -> {
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int symbol = charId(keyword.charAt(i));
+                var next = nodes.get(state).children.get(symbol);
+                if (next == null) {
+                    next = nodes.size();
+                    nodes.add(new Node());
+                    nodes.get(state).children.put(symbol, next);
+                }
+                state = next;
+            }
+            nodes.get(state).output |= category;
+        });
+
+        return nodes;
+    }
+
+    /**
+     * Trie'yi BFS ile gezip failure bağlantılarını tam DFA geçişlerine dönüştürür.
+     */
+    private void buildAutomaton(List<Node> trie) {
+        var queue = new ArrayDeque<Integer>();
+        var failure = new int[trie.size()];
+        outputs[0] = trie.getFirst().output;
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            var child = trie.getFirst().children.get(symbol);
+            if (child == null) continue;
+            transitions[symbol] = child;
+            failure[child] = 0;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = trie.get(state).output | outputs[failure[state]];
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                var child = trie.get(state).children.get(symbol);
+                int fallback = transitions[failure[state] * alphabetSize + symbol];
+                if (child == null) {
+                    transitions[state * alphabetSize + symbol] = fallback;
+                } else {
+                    transitions[state * alphabetSize + symbol] = child;
+                    failure[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<Integer, Integer> children = new HashMap<>();
+        private int output;
+    }
+}
@@ -1,8 +1,11 @@
 package com.kalayciburak.commonpackage.core.util;
 
+import com.kalayciburak.commonpackage.core.util.trace.TraceContext;
+import com.kalayciburak.commonpackage.core.util.trace.TraceIdStrategies;
+import com.kalayciburak.commonpackage.core.util.trace.TraceIdStrategy;
 import org.slf4j.MDC;
 
-import java.util.UUID;
+import java.util.Objects;
 
 import static com.kalayciburak.commonpackage.core.constant.Messages.Error.UNSUPPORTED_OPERATION;
 
@@ -11,32 +14,72 @@ import static com.kalayciburak.commonpackage.core.constant.Messages.Error.UNSUPP
  * <p>
  * TraceId, bir request'in tüm yaşam döngüsü boyunca izlenebilmesini sağlar.
  * Hem response'larda hem de log kayıtlarında kullanılarak hata takibi kolaylaştırılır.
+ * <p>
+ * Web isteklerinde traceId ingress'te bir kez belirlenip {@link TraceContext} olarak saklanır;
+ * bu sınıf önce onu okur. Üretim stratejisi {@code trace-id.strategy} ile seçilir; varsayılan
+ * {@link TraceIdStrategies#RANDOM} stratejisidir.
  */
 public final class TraceIdGenerator {
     private static final String TRACE_ID_KEY = "traceId";
+    private static volatile TraceIdStrategy strategy = TraceIdStrategies.RANDOM;
 
     private TraceIdGenerator() {
         throw new UnsupportedOperationException(UNSUPPORTED_OPERATION);
     }
 
+    /**
+     * <b>TraceId üretim stratejisini değiştirir.</b>
+     *
+     * @param traceIdStrategy Kullanılacak strateji.
+     */
+    public static void setStrategy(TraceIdStrategy traceIdStrategy) {
+        strategy = Objects.requireNonNull(traceIdStrategy, "traceIdStrategy");
+    }
+
+    /**
+     * <b>MDC'ye dokunmadan yeni bir traceId üretir.</b>
+     *
+     * @return Üretilen benzersiz traceId.
+     */
+    public static String newTraceId() {
+        return strategy.generate();
+    }
+
     /**
      * <b>Yeni bir traceId üretir, MDC'ye ekler ve döner.</b>
      *
      * @return Üretilen benzersiz traceId.
      */
     public static String generate() {
-        String traceId = UUID.randomUUID().toString();
+        String traceId = newTraceId();
         MDC.put(TRACE_ID_KEY, traceId);
 
         return traceId;
     }
 
     /**
-     * <b>MDC'den mevcut traceId'yi alır.</b>
+     * <b>Mevcut traceId'yi döner, yoksa yenisini üretir.</b>
+     * <p>
+     * Aynı request için oluşturulan tüm response ve log kayıtları aynı traceId'yi taşır.
+     *
+     * @return Mevcut ya da yeni üretilen traceId.
+     */
+    public static String getOrGenerate() {
+        var traceId = get();
+
+        return traceId != null ? traceId : generate();
+    }
+
+    /**
+     * <b>Mevcut traceId'yi alır.</b>
+     * <p>
+     * Önce request'e ait {@link TraceContext}, yoksa MDC okunur.
      *
      * @return Mevcut traceId varsa döner, yoksa null döner.
      */
     public static String get() {
-        return MDC.get(TRACE_ID_KEY);
+        var context = TraceContext.current();
+
+        return context != null ? context.traceId() : MDC.get(TRACE_ID_KEY);
     }
 }
@@ -0,0 +1,124 @@
+package com.kalayciburak.commonpackage.core.util.trace;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import static com.kalayciburak.commonpackage.core.constant.Messages.Error.UNSUPPORTED_OPERATION;
+
+/**
+ * <b>Request'e ait {@link TraceContext}'i thread'ler arasında taşıyan bağlam.</b>
+ * <p>
+ * Bağlam tek bir referans olarak tutulur; başka bir thread'e geçerken MDC haritası
+ * kopyalanmaz, yalnızca bu referans ve traceId aktarılır. {@link #wrap(Runnable)},
+ * {@link #wrap(Callable)} ve {@link #wrap(Executor)} ile {@code @Async} executor'ları,
+ * {@code CompletableFuture} aşamaları ve virtual thread'lerde çalışan görevler aynı
+ * traceId'yi taşır.
+ * <p>
+ * Java 21'de {@code ScopedValue} preview API olduğundan bağlam {@link ThreadLocal} ile
+ * tutulur; {@link #open(TraceContext)} kapsamı kapandığında önceki değer geri yüklenir.
+ */
+public final class RequestContext {
+    private static final String TRACE_ID_KEY = "traceId";
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+    private RequestContext() {
+        throw new UnsupportedOperationException(UNSUPPORTED_OPERATION);
+    }
+
+    /**
+     * <b>Mevcut thread'e bağlı trace bilgisini döner.</b>
+     *
+     * @return Trace bilgisi, bağlam yoksa null.
+     */
+    public static TraceContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * <b>Verilen trace bilgisini mevcut thread'e bağlar.</b>
+     * <p>
+     * traceId log şablonları için MDC'ye de eklenir. Dönen kapsam kapatıldığında
+     * thread önceki haline döner.
+     *
+     * @param context Bağlanacak trace bilgisi.
+     * @return Kapatılması gereken kapsam.
+     */
+    public static Scope open(TraceContext context) {
+        var previous = CURRENT.get();
+        var previousTraceId = MDC.get(TRACE_ID_KEY);
+        CURRENT.set(context);
+        if (context != null) MDC.put(TRACE_ID_KEY, context.traceId());
+
+        return new Scope(previous, previousTraceId);
+    }
+
+    /**
+     * <b>Görevi, oluşturulduğu thread'in bağlamıyla çalışacak şekilde sarar.</b>
+     *
+     * @param task Sarılacak görev.
+     * @return Bağlamı taşıyan görev; bağlam yoksa görevin kendisi.
+     */
+    public static Runnable wrap(Runnable task) {
+        var context = TraceContext.current();
+        if (context == null) return task;
+
+        return () -> {
+            try (var ignored = open(context)) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * <b>Görevi, oluşturulduğu thread'in bağlamıyla çalışacak şekilde sarar.</b>
+     *
+     * @param task Sarılacak görev.
+     * @param <T>  Görev sonucunun tipi.
+     * @return Bağlamı taşıyan görev; bağlam yoksa görevin kendisi.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        var context = TraceContext.current();
+        if (context == null) return task;
+
+        return () -> {
+            try (var ignored = open(context)) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * <b>Executor'a gönderilen her görevin bağlamı taşımasını sağlar.</b>
+     * <p>
+     * {@code CompletableFuture.supplyAsync(supplier, RequestContext.wrap(executor))} şeklinde kullanılabilir.
+     *
+     * @param executor Sarılacak executor.
+     * @return Bağlamı taşıyan executor.
+     */
+    public static Executor wrap(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    /**
+     * <b>{@link #open(TraceContext)} ile açılan kapsam.</b>
+     */
+    public static final class Scope implements AutoCloseable {
+        private final TraceContext previous;
+        private final String previousTraceId;
+
+        private Scope(TraceContext previous, String previousTraceId) {
+            this.previous = previous;
+            this.previousTraceId = previousTraceId;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) CURRENT.set(previous);
+            else CURRENT.remove();
+            if (previousTraceId != null) MDC.put(TRACE_ID_KEY, previousTraceId);
+            else MDC.remove(TRACE_ID_KEY);
+        }
+    }
+}
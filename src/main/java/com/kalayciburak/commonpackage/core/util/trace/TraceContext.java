@@ -0,0 +1,47 @@
+package com.kalayciburak.commonpackage.core.util.trace;
+
+import jakarta.servlet.ServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * <b>Bir request'e ait, ingress'te bir kez oluşturulan trace bilgisi.</b>
+ * <p>
+ * Request attribute olarak saklanır; response'lar, hata logları ve API_LOG kayıtları
+ * traceId'yi buradan okur. Böylece aynı request için tek bir traceId üretilir ve
+ * async dispatch gibi thread değişimlerinde de korunur.
+ *
+ * @param traceId Request'in traceId'si.
+ */
+public record TraceContext(String traceId) {
+    public static final String ATTRIBUTE = TraceContext.class.getName();
+
+    /**
+     * <b>İsteğe ait trace bilgisini döner.</b>
+     *
+     * @param request HTTP isteği.
+     * @return Trace bilgisi, oluşturulmamışsa null.
+     */
+    public static TraceContext of(ServletRequest request) {
+        return request.getAttribute(ATTRIBUTE) instanceof TraceContext context ? context : null;
+    }
+
+    /**
+     * <b>Mevcut thread'in trace bilgisini döner.</b>
+     * <p>
+     * Önce {@link RequestContext}, yoksa thread'e bağlı request'in attribute'u okunur.
+     *
+     * @return Trace bilgisi, request dışında veya oluşturulmamışsa null.
+     */
+    public static TraceContext current() {
+        var bound = RequestContext.current();
+        if (bound != null) return bound;
+
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+
+        return attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof TraceContext context
+                ? context
+                : null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.kalayciburak.commonpackage.core.util.trace;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import static com.kalayciburak.commonpackage.core.constant.Messages.Error.UNSUPPORTED_OPERATION;
+
+/**
+ * <b>Gelen isteklerden traceId okur.</b>
+ * <p>
+ * Önce W3C {@code traceparent} header'ının trace-id alanı, yoksa {@code X-Trace-Id}
+ * header'ı kullanılır. Gateway veya upstream servisin başlattığı trace korunarak
+ * servisler arası log kayıtları aynı traceId ile ilişkilendirilir.
+ */
+public final class TraceHeaders {
+    public static final String TRACEPARENT = "traceparent";
+    public static final String X_TRACE_ID = "X-Trace-Id";
+    private static final int MAX_TRACE_ID_LENGTH = 64;
+    private static final int TRACEPARENT_LENGTH = 55;
+
+    private TraceHeaders() {
+        throw new UnsupportedOperationException(UNSUPPORTED_OPERATION);
+    }
+
+    /**
+     * <b>İstekteki geçerli traceId'yi döner.</b>
+     *
+     * @param request HTTP isteği.
+     * @return Header'dan okunan traceId, geçerli bir değer yoksa null.
+     */
+    public static String extract(HttpServletRequest request) {
+        var traceId = parseTraceparent(request.getHeader(TRACEPARENT));
+        if (traceId != null) return traceId;
+
+        var custom = request.getHeader(X_TRACE_ID);
+        return isValidTraceId(custom) ? custom : null;
+    }
+
+    /**
+     * <b>W3C traceparent değerinden trace-id alanını çıkarır.</b>
+     * <p>
+     * Format: {@code version-traceid-parentid-flags}, örn.
+     * {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}.
+     * Geçersiz versiyon ({@code ff}) ve tamamı sıfır olan trace-id kabul edilmez.
+     *
+     * @param traceparent Header değeri.
+     * @return 32 karakterlik trace-id, geçersizse null.
+     */
+    static String parseTraceparent(String traceparent) {
+        if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH) return null;
+        if (traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') return null;
+        if (traceparent.startsWith("ff")) return null;
+        if (!isLowerHex(traceparent, 0, 2) || !isLowerHex(traceparent, 3, 35)) return null;
+        if (isAllZeros(traceparent, 3, 35)) return null;
+
+        return traceparent.substring(3, 35);
+    }
+
+    /**
+     * <b>Header'dan gelen traceId'nin loglanabilir olup olmadığını kontrol eder.</b>
+     * <p>
+     * Log enjeksiyonunu önlemek için yalnızca harf, rakam, {@code -} ve {@code _}
+     * içeren, en fazla {@value #MAX_TRACE_ID_LENGTH} karakterlik değerler kabul edilir.
+     *
+     * @param traceId Kontrol edilecek değer.
+     * @return Geçerliyse true.
+     */
+    static boolean isValidTraceId(String traceId) {
+        if (traceId == null || traceId.isEmpty() || traceId.length() > MAX_TRACE_ID_LENGTH) return false;
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_';
+            if (!valid) return false;
+        }
+
+        return true;
+    }
+
+    private static boolean isLowerHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) return false;
+        }
+
+        return true;
+    }
+
+    private static boolean isAllZeros(String value, int from, int to) {
+        for (int i = from; i < to; i++) if (value.charAt(i) != '0') return false;
+
+        return true;
+    }
+}
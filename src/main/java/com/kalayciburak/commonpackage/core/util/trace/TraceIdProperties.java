@@ -0,0 +1,20 @@
+package com.kalayciburak.commonpackage.core.util.trace;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code trace-id.*} altındaki traceId ayarlarını taşır.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "trace-id")
+public class TraceIdProperties {
+    /**
+     * Kullanılacak hazır üretim stratejisi. Bir {@link TraceIdStrategy} bean'i tanımlıysa yok sayılır.
+     */
+    private TraceIdStrategies strategy = TraceIdStrategies.RANDOM;
+}
@@ -0,0 +1,85 @@
+package com.kalayciburak.commonpackage.core.util.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * <b>Hazır traceId üretim stratejileri.</b>
+ * <p>
+ * {@link #RANDOM} ve {@link #TIME_ORDERED} 128 bitlik değeri W3C Trace Context ile uyumlu
+ * 32 karakterlik küçük harf hex olarak üretir. Rastgele bitler thread'e özel
+ * {@link ThreadLocalRandom} ile üretildiğinden {@link java.util.UUID#randomUUID()}'ın kullandığı
+ * paylaşımlı {@code SecureRandom} kaynağında çekişme oluşmaz. TraceId güvenlik amaçlı
+ * kullanılmadığından kriptografik rastgelelik gerekmez.
+ */
+public enum TraceIdStrategies implements TraceIdStrategy {
+    /**
+     * 128 bit rastgele değer (varsayılan).
+     */
+    RANDOM {
+        @Override
+        public String generate() {
+            var random = ThreadLocalRandom.current();
+            long high = random.nextLong();
+            long low = random.nextLong();
+            if ((high | low) == 0) low = 1;
+
+            return toHex(high, low);
+        }
+    },
+
+    /**
+     * İlk 48 biti epoch milisaniyesi, kalanı rastgele olan 128 bit değer.
+     * <p>
+     * Üretilen id'ler milisaniye çözünürlüğünde zamana göre sıralanır; log ve
+     * veritabanı indekslerinde ardışık yerleşim sağlar.
+     */
+    TIME_ORDERED {
+        @Override
+        public String generate() {
+            var random = ThreadLocalRandom.current();
+            long high = (System.currentTimeMillis() << 16) | (random.nextInt() & 0xFFFF);
+            long low = random.nextLong();
+
+            return toHex(high, low);
+        }
+    },
+
+    /**
+     * {@link java.util.UUID#randomUUID()} ile üretilen 36 karakterlik UUID (önceki davranış).
+     */
+    UUID {
+        @Override
+        public String generate() {
+            return java.util.UUID.randomUUID().toString();
+        }
+    };
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(ISO_8859_1);
+
+    /**
+     * <b>128 bit değeri 32 karakterlik hex String'e çevirir.</b>
+     * <p>
+     * Hex rakamları Latin-1 byte'ları olarak yazılır; compact string'ler sayesinde String bu diziden
+     * karakter dönüşümü yapılmadan oluşturulur.
+     *
+     * @param high Üst 64 bit.
+     * @param low  Alt 64 bit.
+     * @return Hex formatındaki değer.
+     */
+    static String toHex(long high, long low) {
+        var bytes = new byte[32];
+        writeHex(bytes, 0, high);
+        writeHex(bytes, 16, low);
+
+        return new String(bytes, ISO_8859_1);
+    }
+
+    private static void writeHex(byte[] bytes, int offset, long value) {
+        for (int i = offset + 15; i >= offset; i--) {
+            bytes[i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
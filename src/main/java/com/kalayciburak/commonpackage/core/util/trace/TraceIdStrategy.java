@@ -0,0 +1,18 @@
+package com.kalayciburak.commonpackage.core.util.trace;
+
+/**
+ * <b>TraceId üretim stratejisi.</b>
+ * <p>
+ * Hazır stratejiler {@link TraceIdStrategies} içindedir. Servisler farklı bir format
+ * gerekiyorsa bu arayüzü uygulayan bir bean tanımlayabilir; tanımlanan bean
+ * {@code trace-id.strategy} ayarından önceliklidir.
+ */
+@FunctionalInterface
+public interface TraceIdStrategy {
+    /**
+     * <b>Yeni bir traceId üretir.</b>
+     *
+     * @return Üretilen traceId.
+     */
+    String generate();
+}
@@ -0,0 +1,307 @@
+package com.kalayciburak.commonpackage.logging.gelf;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import lombok.Setter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <b>GELF mesajlarını kalıcı bir TCP bağlantısı üzerinden toplu gönderen Logback appender'ı.</b>
+ * <p>
+ * Log çağrısı yapan thread yalnızca olayı sabit kapasiteli kuyruğa ekler; encode ve gönderim tek bir
+ * daemon thread'de yapılır. Gönderici kuyruktan {@code batchSize} kadar olayı alır, her birini null byte
+ * ile ayrılmış GELF TCP çerçevesi olarak tampona yazar ve batch başına bir kez flush eder.
+ * <p>
+ * {@code spoolDirectory} verilmişse collector'a ulaşılamadığında ya da kuyruk dolduğunda encode edilmiş
+ * mesajlar {@link MappedGelfSpool}'a yazılır ve bağlantı yeniden kurulduğunda yeni olaylardan önce
+ * gönderilir. Spool'a yazma kilitsizdir ve disk I/O beklemez; request thread'i hiçbir zaman beklemez.
+ * Spool da dolduğunda olay atılır ve sayılır.
+ * <p>
+ * Graylog'un GELF TCP input'u sıkıştırılmış çerçeveleri kabul etmediğinden bu appender sıkıştırma
+ * uygulamaz; batch'leme sayesinde UDP chunk'lamadaki kayıplar ortadan kalkar.
+ */
+public class BatchingGelfTcpAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+    private static final long SHUTDOWN_TIMEOUT_MS = 5_000;
+
+    @Setter
+    private Encoder<ILoggingEvent> encoder;
+    @Setter
+    private String graylogHost;
+    @Setter
+    private int graylogPort = 12201;
+    @Setter
+    private int queueSize = 8192;
+    private int batchSize = 256;
+    @Setter
+    private long flushIntervalMs = 200;
+    @Setter
+    private int connectTimeoutMs = 5_000;
+    @Setter
+    private long reconnectDelayMs = 1_000;
+    @Setter
+    private int socketBufferSize = 64 * 1024;
+    @Setter
+    private String spoolDirectory;
+    @Setter
+    private int spoolSegmentSize = 8 * 1024 * 1024;
+    @Setter
+    private int spoolMaxSegments = 8;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spooled = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private GelfSpool spool;
+    private Thread sender;
+    private Socket socket;
+    private OutputStream output;
+    private long nextConnectAttempt;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + name + "].");
+            return;
+        }
+        if (graylogHost == null) {
+            addError("No graylogHost set for the appender named [" + name + "].");
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        spool = openSpool();
+        running = true;
+        sender = Thread.ofPlatform()
+                .name("gelf-tcp-sender")
+                .daemon()
+                .unstarted(this::send);
+        sender.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) return;
+        running = false;
+        super.stop();
+        sender.interrupt();
+        try {
+            sender.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        disconnect();
+        closeSpool();
+        addInfo("GELF TCP appender stopped. sent=" + getSentCount() + " dropped=" + getDroppedCount()
+                + " spooled=" + getSpooledCount() + " queueDepth=" + getQueueDepth());
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (queue.offer(event)) return;
+        if (spool == null) {
+            dropped.increment();
+            return;
+        }
+        try {
+            spool(encoder.encode(event));
+        } catch (RuntimeException e) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * <b>Gönderici thread döngüsü.</b>
+     * <p>
+     * Durdurma isteğinden sonra kuyrukta kalan olaylar da gönderilmeye çalışılır.
+     */
+    private void send() {
+        var batch = new ArrayList<ILoggingEvent>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (spool != null) spool.maintain();
+                var first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpool();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                if (running) Thread.currentThread().interrupt();
+                else Thread.interrupted();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Batch'i encode edip tek seferde gönderir; gönderim başarısız olursa spool'a yazar.
+     *
+     * @param batch Gönderilecek olaylar.
+     */
+    private void write(List<ILoggingEvent> batch) {
+        var encoded = new ArrayList<byte[]>(batch.size());
+        for (var event : batch) {
+            try {
+                encoded.add(encoder.encode(event));
+            } catch (RuntimeException e) {
+                dropped.increment();
+                addError("Failed to encode GELF event", e);
+            }
+        }
+
+        if (connect()) replaySpool();
+        if (socket != null) {
+            try {
+                for (var message : encoded) frame(message);
+                output.flush();
+                sent.add(encoded.size());
+                return;
+            } catch (IOException e) {
+                addWarn("Failed to send GELF batch to " + graylogHost + ":" + graylogPort, e);
+                disconnect();
+            }
+        }
+        for (var message : encoded) spool(message);
+    }
+
+    private void replaySpool() {
+        if (spool == null || spool.isEmpty() || !connect()) return;
+        try {
+            spool.replay(message -> {
+                frame(message);
+                sent.increment();
+            });
+            output.flush();
+        } catch (IOException e) {
+            addWarn("Failed to replay GELF spool", e);
+            disconnect();
+        }
+    }
+
+    private void frame(byte[] message) throws IOException {
+        output.write(message);
+        output.write(0);
+    }
+
+    private void spool(byte[] message) {
+        if (spool != null && spool.append(message)) spooled.increment();
+        else dropped.increment();
+    }
+
+    private boolean connect() {
+        if (socket != null) return true;
+        long now = System.currentTimeMillis();
+        if (now < nextConnectAttempt) return false;
+        try {
+            var candidate = new Socket();
+            candidate.setKeepAlive(true);
+            candidate.setSendBufferSize(socketBufferSize);
+            candidate.connect(new InetSocketAddress(graylogHost, graylogPort), connectTimeoutMs);
+            socket = candidate;
+            output = new BufferedOutputStream(candidate.getOutputStream(), socketBufferSize);
+            return true;
+        } catch (IOException e) {
+            connectFailures.increment();
+            nextConnectAttempt = now + reconnectDelayMs;
+            addWarn("Failed to connect to " + graylogHost + ":" + graylogPort, e);
+            return false;
+        }
+    }
+
+    private void disconnect() {
+        if (socket == null) return;
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+        socket = null;
+        output = null;
+        nextConnectAttempt = System.currentTimeMillis() + reconnectDelayMs;
+    }
+
+    private GelfSpool openSpool() {
+        if (spoolDirectory == null || spoolDirectory.isBlank()) return null;
+        try {
+            return new MappedGelfSpool(Path.of(spoolDirectory), spoolSegmentSize, spoolMaxSegments);
+        } catch (IOException e) {
+            addError("Failed to open GELF spool " + spoolDirectory, e);
+            return null;
+        }
+    }
+
+    private void closeSpool() {
+        if (spool == null) return;
+        try {
+            spool.close();
+        } catch (IOException e) {
+            addWarn("Failed to close GELF spool", e);
+        }
+    }
+
+    /**
+     * @return Gönderilmeyi bekleyen olay sayısı
+     */
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * @return Collector'a gönderilen toplam mesaj sayısı
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * @return Kuyruk ya da spool dolduğu için atılan toplam mesaj sayısı
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return Collector'a ulaşılamadığı ya da kuyruk dolduğu için spool'a yazılan toplam mesaj sayısı
+     */
+    public long getSpooledCount() {
+        return spooled.sum();
+    }
+
+    /**
+     * @return Başarısız bağlantı denemesi sayısı
+     */
+    public long getConnectFailureCount() {
+        return connectFailures.sum();
+    }
+
+    /**
+     * @return Spool'da bekleyen byte sayısı
+     */
+    public long getSpoolSize() {
+        return spool == null ? 0 : spool.size();
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+}
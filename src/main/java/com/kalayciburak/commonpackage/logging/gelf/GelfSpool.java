@@ -0,0 +1,55 @@
+package com.kalayciburak.commonpackage.logging.gelf;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * <b>Collector'a gönderilemeyen encode edilmiş GELF mesajlarını yerel diskte tutan spool.</b>
+ * <p>
+ * Kapasite sınırlıdır; dolduğunda yeni mesajlar reddedilir. Kayıtlar {@link #replay(MessageSink)} ile
+ * yazıldıkları sırada yeniden gönderilir ve gönderilen kayıtlar spool'dan silinir.
+ */
+public interface GelfSpool extends Closeable {
+    /**
+     * @param message Encode edilmiş GELF mesajı.
+     * @return Mesaj spool'a yazıldıysa true, kapasite dolduysa false
+     */
+    boolean append(byte[] message);
+
+    /**
+     * <b>Spool'daki mesajları sırayla gönderir.</b>
+     * <p>
+     * Gönderim yarıda kesilirse gönderilemeyen kayıtlar spool'da kalır ve sonraki denemede
+     * tekrar gönderilir (en az bir kez teslim).
+     *
+     * @param sink Mesajları gönderen hedef.
+     * @throws IOException Gönderim başarısız olursa
+     */
+    void replay(MessageSink sink) throws IOException;
+
+    /**
+     * <b>Arka plan bakım işlemlerini yapar.</b>
+     * <p>
+     * Gönderici thread tarafından periyodik olarak çağrılır; disk I/O gerektiren işlemler
+     * (ör. yeni segment açma) yazma yolundan bu metoda taşınır.
+     */
+    default void maintain() {}
+
+    /**
+     * @return Spool'da bekleyen mesaj olup olmadığı
+     */
+    boolean isEmpty();
+
+    /**
+     * @return Spool'da gönderilmeyi bekleyen byte sayısı
+     */
+    long size();
+
+    /**
+     * Encode edilmiş mesajları gönderen hedef.
+     */
+    @FunctionalInterface
+    interface MessageSink {
+        void send(byte[] message) throws IOException;
+    }
+}
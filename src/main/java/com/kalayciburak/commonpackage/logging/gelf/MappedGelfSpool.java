@@ -0,0 +1,282 @@
+package com.kalayciburak.commonpackage.logging.gelf;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * <b>Mesajları memory-mapped segment dosyalarına ekleyen spool.</b>
+ * <p>
+ * Her segment sabit boyutlu bir dosyadır ve bellek üzerine map edilir. Yazan thread'ler segmentte
+ * {@link AtomicInteger#getAndAdd(int)} ile yer ayırır ve kaydı doğrudan map edilmiş belleğe yazar;
+ * kilit ya da sistem çağrısı yoktur. Kayıt {@code [uzunluk][mesaj]} biçimindedir; uzunluk alanı mesajdan
+ * sonra release semantiği ile yazılır ve kaydın tamamlandığını gösterir.
+ * <p>
+ * Segment dolduğunda önceden açılmış yedek segmente geçilir. Yeni segment açmak disk I/O gerektirdiğinden
+ * yazma yolunda yapılmaz; {@link #maintain()} ile gönderici thread'inde yapılır. Toplam segment sayısı
+ * {@code maxSegments} ile sınırlıdır; sınır dolduğunda yeni mesajlar reddedilir.
+ * <p>
+ * Gönderilen kayıtlar uzunluk alanında işaretlenir; tamamen gönderilen segmentler silinir. Uygulama yeniden
+ * başladığında dizinde kalan segmentlerin yalnızca işaretlenmemiş kayıtları sırayla yeniden gönderilir.
+ */
+public class MappedGelfSpool implements GelfSpool {
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final int HEADER = Integer.BYTES;
+    private static final int PADDING = -1;
+    private static final int CONSUMED = Integer.MIN_VALUE;
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger segmentCount = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Segment> sealed = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Segment> active = new AtomicReference<>();
+    private final AtomicReference<Segment> spare = new AtomicReference<>();
+    private volatile boolean closed;
+
+    /**
+     * @param directory   Segment dosyalarının tutulacağı dizin.
+     * @param segmentSize Segment boyutu (byte).
+     * @param maxSegments Aynı anda tutulabilecek en fazla segment sayısı (en az 2).
+     * @throws IOException Dizin ya da ilk segment oluşturulamazsa
+     */
+    public MappedGelfSpool(Path directory, int segmentSize, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentSize = align(segmentSize);
+        this.maxSegments = Math.max(2, maxSegments);
+        Files.createDirectories(directory);
+        recover();
+        active.set(allocate());
+        maintain();
+    }
+
+    @Override
+    public boolean append(byte[] message) {
+        int size = HEADER + align(message.length);
+        if (closed || message.length == 0 || size > segmentSize) return false;
+
+        while (true) {
+            var segment = active.get();
+            if (segment.reserved.get() < segment.capacity) {
+                int position = segment.reserved.getAndAdd(size);
+                if (position + size <= segment.capacity) {
+                    segment.write(position, message);
+                    return true;
+                }
+                segment.seal(position);
+            }
+            if (!rotate(segment)) return false;
+        }
+    }
+
+    /**
+     * <b>Dolu segmenti yedek segment ile değiştirir.</b>
+     * <p>
+     * Segment başına yalnızca bir thread değişimi yapar; diğerleri değişim tamamlanana kadar bekler.
+     *
+     * @param full Dolu segment.
+     * @return Yazma yeniden denenebilecekse true, yedek segment yoksa false
+     */
+    private boolean rotate(Segment full) {
+        if (!full.rotating.compareAndSet(false, true)) {
+            while (active.get() == full && full.rotating.get()) Thread.onSpinWait();
+            return active.get() != full;
+        }
+
+        var next = spare.getAndSet(null);
+        if (next == null) {
+            full.rotating.set(false);
+            return false;
+        }
+        sealed.add(full);
+        active.set(next);
+
+        return true;
+    }
+
+    @Override
+    public void replay(MessageSink sink) throws IOException {
+        while (true) {
+            var segment = sealed.peek();
+            boolean isSealed = segment != null;
+            if (!isSealed) segment = active.get();
+
+            boolean drained = drain(segment, sink, isSealed);
+            if (!isSealed || !drained) return;
+            sealed.poll();
+            release(segment);
+        }
+    }
+
+    /**
+     * Segmentteki tamamlanmış kayıtları gönderir.
+     * <p>
+     * Gönderilen kaydın uzunluk alanına {@code CONSUMED} biti eklenir; imleç dosyada kalıcı olduğundan
+     * yeniden başlatmada işaretli kayıtlar atlanır ve tekrar gönderilmez.
+     *
+     * @return Segmentin sonuna ulaşıldıysa true
+     */
+    private boolean drain(Segment segment, MessageSink sink, boolean isSealed) throws IOException {
+        int limit = isSealed ? segment.capacity : Math.min(segment.reserved.get(), segment.capacity);
+        while (segment.readOffset + HEADER <= limit) {
+            int word = (int) INT.getAcquire(segment.buffer, segment.readOffset);
+            if (word == PADDING) return true;
+            if (word == 0) return segment.recovered;
+            int length = word & ~CONSUMED;
+            if (length == 0 || segment.readOffset + HEADER + length > segment.capacity) return true;
+
+            if ((word & CONSUMED) == 0) {
+                var message = new byte[length];
+                segment.buffer.get(segment.readOffset + HEADER, message);
+                sink.send(message);
+                INT.setRelease(segment.buffer, segment.readOffset, word | CONSUMED);
+            }
+            segment.readOffset += HEADER + align(length);
+        }
+
+        return segment.readOffset + HEADER > segment.capacity || isSealed && segment.readOffset >= limit;
+    }
+
+    /**
+     * Yedek segment yoksa ve segment sınırı izin veriyorsa yeni segment açar.
+     */
+    @Override
+    public void maintain() {
+        if (closed || spare.get() != null || segmentCount.get() >= maxSegments) return;
+        try {
+            var segment = allocate();
+            if (!spare.compareAndSet(null, segment)) release(segment);
+        } catch (IOException ignored) {
+            // Bir sonraki bakımda tekrar denenir
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!sealed.isEmpty()) return false;
+        var segment = active.get();
+
+        return segment.readOffset >= Math.min(segment.reserved.get(), segment.capacity);
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (var segment : sealed) size += segment.capacity - segment.readOffset;
+        var segment = active.get();
+
+        return size + Math.max(0, Math.min(segment.reserved.get(), segment.capacity) - segment.readOffset);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (var segment : sealed) segment.buffer.force();
+        active.get().buffer.force();
+        var unused = spare.getAndSet(null);
+        if (unused != null) release(unused);
+    }
+
+    /**
+     * Önceki çalıştırmadan kalan segmentleri sıra numarasına göre gönderim kuyruğuna ekler.
+     */
+    private void recover() throws IOException {
+        var files = new ArrayList<Path>();
+        try (var stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        for (var file : files) {
+            var segment = map(file, false);
+            segment.recovered = true;
+            sealed.add(segment);
+            segmentCount.incrementAndGet();
+            long number = Long.parseLong(file.getFileName().toString().replace(SUFFIX, ""));
+            sequence.accumulateAndGet(number, Math::max);
+        }
+    }
+
+    private Segment allocate() throws IOException {
+        var file = directory.resolve(String.format("%020d%s", sequence.incrementAndGet(), SUFFIX));
+        segmentCount.incrementAndGet();
+
+        return map(file, true);
+    }
+
+    private Segment map(Path file, boolean create) throws IOException {
+        try (var channel = create ? FileChannel.open(file, CREATE_NEW, READ, WRITE) : FileChannel.open(file, READ, WRITE)) {
+            int capacity = create ? segmentSize : (int) Math.min(channel.size(), Integer.MAX_VALUE) & ~(HEADER - 1);
+            return new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), capacity);
+        } catch (IOException e) {
+            if (create) segmentCount.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Segment dosyasını siler. Map edilmiş bellek GC ile serbest bırakılır.
+     */
+    private void release(Segment segment) {
+        segmentCount.decrementAndGet();
+        try {
+            Files.deleteIfExists(segment.file);
+        } catch (IOException ignored) {
+            // Dosya bir sonraki başlangıçta yeniden gönderilir
+        }
+    }
+
+    private static int align(int length) {
+        return (length + HEADER - 1) & ~(HEADER - 1);
+    }
+
+    /**
+     * Map edilmiş tek bir segment dosyası.
+     * <p>
+     * {@code reserved} yazan thread'ler arasında paylaşılır; {@code readOffset} yalnızca gönderici thread
+     * tarafından kullanılır.
+     */
+    private static final class Segment {
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicInteger reserved = new AtomicInteger();
+        private final AtomicBoolean rotating = new AtomicBoolean();
+        private int readOffset;
+        private boolean recovered;
+
+        private Segment(Path file, MappedByteBuffer buffer, int capacity) {
+            this.file = file;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+
+        private void write(int position, byte[] message) {
+            buffer.put(position + HEADER, message);
+            INT.setRelease(buffer, position, message.length);
+        }
+
+        /**
+         * Segmente sığmayan ilk kaydın yerine, okuyucunun segment sonunu tanıması için dolgu işareti yazar.
+         */
+        private void seal(int position) {
+            if (position < capacity && position + HEADER <= capacity) INT.setRelease(buffer, position, PADDING);
+        }
+    }
+}
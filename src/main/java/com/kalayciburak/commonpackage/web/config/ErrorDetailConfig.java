@@ -0,0 +1,15 @@
+package com.kalayciburak.commonpackage.web.config;
+
+import com.kalayciburak.commonpackage.core.response.error.ErrorDetail;
+import com.kalayciburak.commonpackage.core.response.error.ErrorDetailProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link ErrorDetail} için frame seçim modunu uygulama başlarken belirler.
+ */
+@Configuration
+public class ErrorDetailConfig {
+    public ErrorDetailConfig(ErrorDetailProperties properties) {
+        ErrorDetail.configure(properties.getFrameSelection(), properties.getApplicationPackages());
+    }
+}
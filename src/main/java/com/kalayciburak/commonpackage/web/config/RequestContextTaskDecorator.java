@@ -0,0 +1,19 @@
+package com.kalayciburak.commonpackage.web.config;
+
+import com.kalayciburak.commonpackage.core.util.trace.RequestContext;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code @Async} ve Spring'in oluşturduğu task executor'larında {@link RequestContext}'i taşır.
+ * <p>
+ * Spring Boot tek bir {@link TaskDecorator} bean'ini otomatik yapılandırılan executor'lara
+ * (virtual thread kullanan {@code SimpleAsyncTaskExecutor} dahil) uygular.
+ */
+@Component
+public class RequestContextTaskDecorator implements TaskDecorator {
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return RequestContext.wrap(runnable);
+    }
+}
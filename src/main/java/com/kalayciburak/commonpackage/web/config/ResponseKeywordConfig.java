@@ -0,0 +1,21 @@
+package com.kalayciburak.commonpackage.web.config;
+
+import com.kalayciburak.commonpackage.core.response.builder.KeywordRegistry;
+import com.kalayciburak.commonpackage.core.response.builder.ResponseKeywordProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+
+/**
+ * {@link KeywordRegistry}'yi varsayılan diller ve {@code response-keywords.*} ayarlarıyla uygulama başlarken oluşturur.
+ */
+@Configuration
+public class ResponseKeywordConfig {
+    public ResponseKeywordConfig(ResponseKeywordProperties properties) {
+        var builder = KeywordRegistry.builder();
+        if (properties.isIncludeDefaults()) builder.addLanguages();
+        properties.getLanguages().forEach((tag, byIntent) -> byIntent.forEach((intent, keywords) ->
+                builder.add(Locale.forLanguageTag(tag), intent, keywords)));
+        KeywordRegistry.install(builder.build());
+    }
+}
@@ -0,0 +1,20 @@
+package com.kalayciburak.commonpackage.web.config;
+
+import com.kalayciburak.commonpackage.core.util.TraceIdGenerator;
+import com.kalayciburak.commonpackage.core.util.trace.TraceIdProperties;
+import com.kalayciburak.commonpackage.core.util.trace.TraceIdStrategy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link TraceIdGenerator} için üretim stratejisini uygulama başlarken belirler.
+ * <p>
+ * Uygulamada bir {@link TraceIdStrategy} bean'i varsa o, yoksa {@code trace-id.strategy}
+ * ile seçilen hazır strateji kullanılır.
+ */
+@Configuration
+public class TraceIdConfig {
+    public TraceIdConfig(TraceIdProperties properties, ObjectProvider<TraceIdStrategy> customStrategy) {
+        TraceIdGenerator.setStrategy(customStrategy.getIfAvailable(properties::getStrategy));
+    }
+}
@@ -1,11 +1,31 @@
 package com.kalayciburak.commonpackage.web.config;
 
+import com.kalayciburak.commonpackage.core.response.common.TimestampFormat;
+import com.kalayciburak.commonpackage.core.response.error.ErrorResponseProperties;
+import com.kalayciburak.commonpackage.web.converter.BinaryResponseConverters;
+import com.kalayciburak.commonpackage.web.converter.NdjsonResponseConverter;
+import com.kalayciburak.commonpackage.web.converter.PreSerializedErrorResponseConverter;
+import com.kalayciburak.commonpackage.web.converter.ResponseFormatProperties;
+import com.kalayciburak.commonpackage.web.converter.StreamingSuccessResponseConverter;
+import com.kalayciburak.commonpackage.web.filter.timing.RequestTimingInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.databind.json.JsonMapper;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+    private final ErrorResponseProperties errorResponseProperties;
+    private final ResponseFormatProperties responseFormatProperties;
+    private final JsonMapper jsonMapper;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -13,4 +33,47 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("*")
                 .allowedHeaders("*");
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code LoggingFilter}'ın handler başlangıcını ölçebilmesi için {@link RequestTimingInterceptor}'ı ekler.
+     * <p>
+     * Diğer interceptor'lardan sonra çalışması için en düşük önceliklidir; böylece interceptor süreleri
+     * handler öncesi aşamaya dahil edilir.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTimingInterceptor()).order(Ordered.LOWEST_PRECEDENCE);
+    }
+
+    /**
+     * Uygulamanın Jackson mapper'ını kullanan {@link StreamingSuccessResponseConverter}'ı ekler.
+     * <p>
+     * Özel converter'lar varsayılanların önüne eklendiğinden yalnızca {@code Response} tiplerini yazanlar
+     * özel converter olarak kaydedilir ve {@code application/json}'ı ilk sırada destekler; böylece
+     * {@code Accept} header'ı göndermeyen istemciler JSON almaya devam eder. {@code response-format.*} ile
+     * açılan Smile ve CBOR'un genel converter'ları format'ın varsayılan yerine kaydedilir.
+     * <p>
+     * {@code error-response.pre-serialized=true} ise {@link PreSerializedErrorResponseConverter}'ı
+     * ilk sıraya ekler. Şablona uymayan response'lar uygulamanın mapper'ını kullanan JSON converter'ına bırakılır.
+     */
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        var json = new JacksonJsonHttpMessageConverter(jsonMapper);
+        if (errorResponseProperties.isPreSerialized())
+            builder.addCustomConverter(new PreSerializedErrorResponseConverter(jsonMapper, json));
+
+        builder.addCustomConverter(responseFormatProperties.isNdjson()
+                ? new StreamingSuccessResponseConverter(jsonMapper)
+                : new StreamingSuccessResponseConverter(jsonMapper, TimestampFormat.PATTERN, MediaType.APPLICATION_JSON));
+        if (responseFormatProperties.isNdjson()) builder.addCustomConverter(new NdjsonResponseConverter(jsonMapper, json));
+
+        if (responseFormatProperties.isSmile()) {
+            var smile = BinaryResponseConverters.smile(jsonMapper, responseFormatProperties.getBinaryTimestamp());
+            builder.addCustomConverter(smile.streaming()).withSmileConverter(smile.general());
+        }
+        if (responseFormatProperties.isCbor()) {
+            var cbor = BinaryResponseConverters.cbor(jsonMapper, responseFormatProperties.getBinaryTimestamp());
+            builder.addCustomConverter(cbor.streaming()).withCborConverter(cbor.general());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.kalayciburak.commonpackage.web.converter;
+
+import com.kalayciburak.commonpackage.core.response.common.Response;
+import com.kalayciburak.commonpackage.core.response.common.TimestampFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.LocalDateTime;
+
+/**
+ * <b>Smile ve CBOR converter'larını oluşturur.</b>
+ * <p>
+ * Jackson binary format bağımlılıkları opsiyonel olduğundan bu sınıf yalnızca ilgili format
+ * {@code response-format.*} ile açıldığında yüklenir.
+ * <p>
+ * Binary mapper'lar uygulamanın JSON mapper'ından türetilir: kayıtlı modüller (özel serializer'lar dahil),
+ * feature ayarları, isimlendirme stratejisi, varsayılan inclusion, saat dilimi ve locale kopyalanır. Böylece
+ * aynı endpoint'in Smile/CBOR gövdesi JSON gövdesiyle aynı yapıdadır.
+ */
+public final class BinaryResponseConverters {
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private BinaryResponseConverters() {}
+
+    /**
+     * @param base            Uygulamanın JSON mapper'ı.
+     * @param timestampFormat Timestamp biçimi.
+     * @return Smile için streaming ve genel converter'lar
+     */
+    public static FormatConverters smile(ObjectMapper base, TimestampFormat timestampFormat) {
+        var builder = inherit(SmileMapper.builder(), base);
+        if (timestampFormat == TimestampFormat.EPOCH_MILLIS) builder.addMixIn(Response.class, EpochMillisTimestampMixIn.class);
+        var mapper = builder.build();
+
+        return new FormatConverters(
+                new StreamingSuccessResponseConverter(mapper, timestampFormat, APPLICATION_SMILE),
+                new JacksonSmileHttpMessageConverter(mapper));
+    }
+
+    /**
+     * @param base            Uygulamanın JSON mapper'ı.
+     * @param timestampFormat Timestamp biçimi.
+     * @return CBOR için streaming ve genel converter'lar
+     */
+    public static FormatConverters cbor(ObjectMapper base, TimestampFormat timestampFormat) {
+        var builder = inherit(CBORMapper.builder(), base);
+        if (timestampFormat == TimestampFormat.EPOCH_MILLIS) builder.addMixIn(Response.class, EpochMillisTimestampMixIn.class);
+        var mapper = builder.build();
+
+        return new FormatConverters(
+                new StreamingSuccessResponseConverter(mapper, timestampFormat, MediaType.APPLICATION_CBOR),
+                new JacksonCborHttpMessageConverter(mapper));
+    }
+
+    /**
+     * <b>Uygulama mapper'ının format bağımsız yapılandırmasını builder'a kopyalar.</b>
+     *
+     * @param builder Binary format mapper builder'ı.
+     * @param base    Uygulamanın JSON mapper'ı.
+     * @param <B>     Builder tipi.
+     * @return Yapılandırılmış builder
+     */
+    private static <B extends MapperBuilder<?, B>> B inherit(B builder, ObjectMapper base) {
+        var serialization = base.serializationConfig();
+        var deserialization = base.deserializationConfig();
+
+        builder.addModules(base.registeredModules());
+        for (var feature : MapperFeature.values()) builder.configure(feature, serialization.isEnabled(feature));
+        for (var feature : SerializationFeature.values()) builder.configure(feature, serialization.isEnabled(feature));
+        for (var feature : DeserializationFeature.values()) builder.configure(feature, deserialization.isEnabled(feature));
+        for (var feature : DateTimeFeature.values()) builder.configure(feature, serialization.isEnabled(feature));
+        for (var feature : EnumFeature.values()) builder.configure(feature, serialization.isEnabled(feature));
+
+        var inclusion = serialization.getDefaultPropertyInclusion();
+        if (inclusion != null) builder.changeDefaultPropertyInclusion(ignored -> inclusion);
+        if (serialization.getPropertyNamingStrategy() != null)
+            builder.propertyNamingStrategy(serialization.getPropertyNamingStrategy());
+
+        return builder.defaultTimeZone(serialization.getTimeZone())
+                .defaultLocale(serialization.getLocale());
+    }
+
+    /**
+     * <b>Bir binary format için oluşturulan converter çifti.</b>
+     * <p>
+     * {@code streaming} yalnızca {@code StreamingSuccessResponse} yazdığından özel converter olarak
+     * varsayılanların önüne, {@code general} ise format'ın varsayılan yerine kaydedilir.
+     *
+     * @param streaming {@code StreamingSuccessResponse} converter'ı.
+     * @param general   Diğer tüm gövdeler için Jackson converter'ı.
+     */
+    public record FormatConverters(HttpMessageConverter<?> streaming, HttpMessageConverter<?> general) {}
+
+    /**
+     * {@link Response#getTimestamp()} alanını epoch milisaniye olarak yazdıran mix-in.
+     */
+    abstract static class EpochMillisTimestampMixIn {
+        @JsonSerialize(using = EpochMillisSerializer.class)
+        protected LocalDateTime timestamp;
+    }
+}
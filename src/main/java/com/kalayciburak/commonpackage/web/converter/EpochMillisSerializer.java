@@ -0,0 +1,30 @@
+package com.kalayciburak.commonpackage.web.converter;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * {@link LocalDateTime} değerini sistem saat dilimine göre epoch milisaniye olarak yazar.
+ */
+public class EpochMillisSerializer extends StdSerializer<LocalDateTime> {
+    public EpochMillisSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    /**
+     * @param timestamp Zaman.
+     * @return Sistem saat dilimine göre epoch milisaniye
+     */
+    public static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializationContext context) {
+        generator.writeNumber(toEpochMillis(value));
+    }
+}
@@ -0,0 +1,69 @@
+package com.kalayciburak.commonpackage.web.converter;
+
+import com.kalayciburak.commonpackage.core.response.common.Response;
+import com.kalayciburak.commonpackage.core.response.success.StreamingSuccessResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.StreamUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <b>{@link Response} gövdelerini {@code application/x-ndjson} olarak tek satırda yazan converter.</b>
+ * <p>
+ * Özel converter'lar Spring'in varsayılan converter'larından önce kaydedildiğinden bu converter
+ * {@code application/json}'ı da ilk sırada destekler ve JSON isteklerini {@code json} converter'ına
+ * bırakır. Böylece {@code Accept} header'ı göndermeyen istemciler JSON almaya devam eder.
+ * <p>
+ * {@link StreamingSuccessResponse} bu converter'a gelmez; satır satır yazımı
+ * {@link StreamingSuccessResponseConverter} yapar.
+ */
+public class NdjsonResponseConverter extends AbstractHttpMessageConverter<Response> {
+    private final ObjectMapper mapper;
+    private final HttpMessageConverter<Object> json;
+
+    /**
+     * @param mapper Uygulamanın JSON mapper'ı.
+     * @param json   JSON istekleri için kullanılan converter.
+     */
+    @SuppressWarnings("unchecked")
+    public NdjsonResponseConverter(ObjectMapper mapper, HttpMessageConverter<?> json) {
+        super(UTF_8, MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+        this.mapper = mapper;
+        this.json = (HttpMessageConverter<Object>) json;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Response.class.isAssignableFrom(clazz) && !StreamingSuccessResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Response readInternal(Class<? extends Response> clazz, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("Response okunamaz");
+    }
+
+    @Override
+    protected void writeInternal(Response response, HttpOutputMessage outputMessage) throws IOException {
+        var contentType = outputMessage.getHeaders().getContentType();
+        if (contentType == null || !MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            json.write(response, contentType, outputMessage);
+            return;
+        }
+
+        var body = outputMessage.getBody();
+        mapper.writeValue(StreamUtils.nonClosing(body), response);
+        body.write('\n');
+    }
+}
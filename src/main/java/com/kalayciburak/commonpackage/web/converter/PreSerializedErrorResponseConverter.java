@@ -0,0 +1,190 @@
+package com.kalayciburak.commonpackage.web.converter;
+
+import com.kalayciburak.commonpackage.core.response.error.ErrorResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.kalayciburak.commonpackage.core.response.common.TimestampFormat.TEXT_FORMATTER;
+import static com.kalayciburak.commonpackage.core.util.JsonEscaper.appendQuoted;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <b>{@link ErrorResponse} gövdelerini önceden serileştirilmiş şablonlardan yazan converter.</b>
+ * <p>
+ * Type, code, message ve status değerleri {@code Types}, {@code Codes} ve {@code Messages}
+ * sabitlerinden geldiğinden her kombinasyon ilk kullanımda uygulamanın mapper'ı ile bir kez
+ * serileştirilir. Timestamp ve traceId yerine yer tutucu değerler yazılır ve çıktı bu değerlerin
+ * etrafından parçalara ayrılır. Sonraki response'larda parçaların arasına yalnızca timestamp ve
+ * traceId eklenir; Jackson'ın reflection tabanlı serileştirmesi çalışmaz.
+ * <p>
+ * Alan sırası, isimlendirme ve inclusion ayarları şablona mapper'dan geldiğinden gövde Jackson
+ * çıktısıyla aynıdır. Mesajı String olmayan (örn. validation hataları), alt sınıf olan, timestamp ya da
+ * traceId'si olmayan ve timestamp'i mapper tarafından farklı biçimlendirilen response'lar
+ * {@code delegate} converter'a bırakılır.
+ */
+public class PreSerializedErrorResponseConverter extends AbstractHttpMessageConverter<ErrorResponse<?>> {
+    private static final int MAX_TEMPLATES = 256;
+    private static final LocalDateTime TIMESTAMP_PLACEHOLDER = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final String TRACE_ID_PLACEHOLDER = "pre-serialized-trace-id";
+    private static final String QUOTED_TIMESTAMP_PLACEHOLDER = quotedString(TEXT_FORMATTER.format(TIMESTAMP_PLACEHOLDER));
+    private static final String QUOTED_TRACE_ID_PLACEHOLDER = quotedString(TRACE_ID_PLACEHOLDER);
+
+    private final ObjectMapper mapper;
+    private final HttpMessageConverter<Object> delegate;
+    private final ConcurrentMap<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+    private volatile CachedTimestamp lastTimestamp = new CachedTimestamp(null, null);
+
+    /**
+     * @param mapper   Şablonları serileştirmek için uygulamanın JSON mapper'ı.
+     * @param delegate Şablona uymayan response'lar için JSON converter'ı.
+     */
+    @SuppressWarnings("unchecked")
+    public PreSerializedErrorResponseConverter(ObjectMapper mapper, HttpMessageConverter<?> delegate) {
+        super(UTF_8, MediaType.APPLICATION_JSON);
+        this.mapper = mapper;
+        this.delegate = (HttpMessageConverter<Object>) delegate;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ErrorResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ErrorResponse<?> readInternal(Class<? extends ErrorResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("ErrorResponse okunamaz");
+    }
+
+    @Override
+    protected void writeInternal(ErrorResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        var template = response.getClass() == ErrorResponse.class && response.getMessage() instanceof String message
+                && response.getTimestamp() != null && response.getTraceId() != null
+                ? template(new TemplateKey(response.getType(), response.getCode(), message, response.isSuccess(),
+                response.getStatus()))
+                : Template.UNSUPPORTED;
+        if (template == Template.UNSUPPORTED) {
+            delegate.write(response, MediaType.APPLICATION_JSON, outputMessage);
+            return;
+        }
+
+        var timestamp = timestamp(response.getTimestamp());
+        var traceId = quoted(response.getTraceId());
+        var body = outputMessage.getBody();
+        body.write(template.head());
+        body.write(template.timestampFirst() ? timestamp : traceId);
+        body.write(template.middle());
+        body.write(template.timestampFirst() ? traceId : timestamp);
+        body.write(template.tail());
+    }
+
+    /**
+     * <b>Sabit alanların şablonunu önbellekten döner, yoksa oluşturur.</b>
+     * <p>
+     * Alt sınıflarda dinamik mesaj kullanılması durumunda önbelleğin büyümemesi için
+     * {@value #MAX_TEMPLATES} şablondan sonrası önbelleğe alınmaz.
+     *
+     * @param key Sabit alanlar.
+     * @return Timestamp ve traceId etrafındaki JSON parçaları.
+     */
+    private Template template(TemplateKey key) {
+        var cached = templates.get(key);
+        if (cached != null) return cached;
+
+        var template = serialize(key);
+        if (templates.size() < MAX_TEMPLATES) templates.putIfAbsent(key, template);
+
+        return template;
+    }
+
+    /**
+     * <b>Sabit alanlarla bir prototip oluşturur ve mapper çıktısını yer tutucuların etrafından böler.</b>
+     * <p>
+     * Yer tutucular çıktıda tam olarak bir kez bulunmazsa (örn. timestamp farklı biçimlendirilmişse)
+     * {@link Template#UNSUPPORTED} döner.
+     *
+     * @param key Sabit alanlar.
+     * @return Şablon.
+     */
+    private Template serialize(TemplateKey key) {
+        var prototype = new ErrorResponse<>(key.type(), key.code(), key.message(), key.status(), null);
+        prototype.setSuccess(key.success());
+        prototype.setTimestamp(TIMESTAMP_PLACEHOLDER);
+        prototype.setTraceId(TRACE_ID_PLACEHOLDER);
+
+        var json = mapper.writeValueAsString(prototype);
+        var timestamp = json.indexOf(QUOTED_TIMESTAMP_PLACEHOLDER);
+        var traceId = json.indexOf(QUOTED_TRACE_ID_PLACEHOLDER);
+        if (timestamp < 0 || traceId < 0
+                || timestamp != json.lastIndexOf(QUOTED_TIMESTAMP_PLACEHOLDER)
+                || traceId != json.lastIndexOf(QUOTED_TRACE_ID_PLACEHOLDER)) return Template.UNSUPPORTED;
+
+        var timestampFirst = timestamp < traceId;
+        var first = timestampFirst ? timestamp : traceId;
+        var firstEnd = first + (timestampFirst ? QUOTED_TIMESTAMP_PLACEHOLDER : QUOTED_TRACE_ID_PLACEHOLDER).length();
+        var second = timestampFirst ? traceId : timestamp;
+        var secondEnd = second + (timestampFirst ? QUOTED_TRACE_ID_PLACEHOLDER : QUOTED_TIMESTAMP_PLACEHOLDER).length();
+
+        return new Template(json.substring(0, first).getBytes(UTF_8),
+                json.substring(firstEnd, second).getBytes(UTF_8),
+                json.substring(secondEnd).getBytes(UTF_8),
+                timestampFirst);
+    }
+
+    /**
+     * <b>Timestamp'i JSON string olarak döner.</b>
+     * <p>
+     * Format saniye çözünürlüğünde olduğundan aynı saniye içindeki response'lar son
+     * formatlanan değeri tekrar kullanır.
+     *
+     * @param timestamp Response zamanı.
+     * @return Tırnaklı timestamp.
+     */
+    private byte[] timestamp(LocalDateTime timestamp) {
+        var seconds = timestamp.truncatedTo(ChronoUnit.SECONDS);
+        var cached = lastTimestamp;
+        if (seconds.equals(cached.seconds())) return cached.bytes();
+
+        var bytes = quoted(TEXT_FORMATTER.format(seconds));
+        lastTimestamp = new CachedTimestamp(seconds, bytes);
+
+        return bytes;
+    }
+
+    private static byte[] quoted(String value) {
+        return quotedString(value).getBytes(UTF_8);
+    }
+
+    private static String quotedString(String value) {
+        return appendQuoted(new StringBuilder(value.length() + 2), value).toString();
+    }
+
+    private record CachedTimestamp(LocalDateTime seconds, byte[] bytes) {}
+
+    private record TemplateKey(String type, String code, String message, boolean success, HttpStatus status) {}
+
+    /**
+     * @param head           İlk değişken alandan önceki parça.
+     * @param middle         İki değişken alan arasındaki parça.
+     * @param tail           İkinci değişken alandan sonraki parça.
+     * @param timestampFirst Timestamp traceId'den önce yazılıyorsa {@code true}.
+     */
+    private record Template(byte[] head, byte[] middle, byte[] tail, boolean timestampFirst) {
+        private static final Template UNSUPPORTED = new Template(null, null, null, false);
+    }
+}
@@ -0,0 +1,39 @@
+package com.kalayciburak.commonpackage.web.converter;
+
+import com.kalayciburak.commonpackage.core.response.common.TimestampFormat;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code response-format.*} altındaki content negotiation ayarlarını taşır.
+ * <p>
+ * Browser istemcileri varsayılan JSON'u almaya devam eder; diğer formatlar yalnızca
+ * {@code Accept} header'ı ile istendiğinde kullanılır.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "response-format")
+public class ResponseFormatProperties {
+    /**
+     * true ise {@code application/x-ndjson} desteklenir.
+     */
+    private boolean ndjson = true;
+
+    /**
+     * true ise {@code application/x-jackson-smile} desteklenir. {@code jackson-dataformat-smile} gerektirir.
+     */
+    private boolean smile = false;
+
+    /**
+     * true ise {@code application/cbor} desteklenir. {@code jackson-dataformat-cbor} gerektirir.
+     */
+    private boolean cbor = false;
+
+    /**
+     * Smile ve CBOR response'larında timestamp biçimi.
+     */
+    private TimestampFormat binaryTimestamp = TimestampFormat.EPOCH_MILLIS;
+}
@@ -0,0 +1,150 @@
+package com.kalayciburak.commonpackage.web.converter;
+
+import com.kalayciburak.commonpackage.core.response.common.TimestampFormat;
+import com.kalayciburak.commonpackage.core.response.success.StreamingSuccessResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static com.kalayciburak.commonpackage.core.response.common.TimestampFormat.TEXT_FORMATTER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <b>{@link StreamingSuccessResponse} gövdelerini Jackson {@code JsonGenerator} ile parça parça yazan converter.</b>
+ * <p>
+ * Envelope alanları {@code Response} tanımındaki sırayla ve timestamp biçimiyle yazılır; mapper'ın property
+ * sıralama ve inclusion ayarları envelope'a uygulanmaz. Elemanlar kaynaktan okundukça
+ * verilen {@link ObjectMapper} ile serileştirilir; generator tamponu dolduğunda içerik doğrudan
+ * output stream'e aktarılır, response'un tamamı bellekte tutulmaz. {@code size} alanı yazılan eleman
+ * sayısıdır ve en sona eklenir.
+ * <p>
+ * {@code application/x-ndjson} istendiğinde ilk satır data'sız envelope, sonraki her satır bir eleman,
+ * son satır {@code size} (ve varsa {@code hasNext}) bilgisidir. Smile/CBOR gibi binary formatlar için
+ * ilgili format mapper'ı ile oluşturulur.
+ */
+public class StreamingSuccessResponseConverter extends AbstractHttpMessageConverter<StreamingSuccessResponse<?>> {
+
+    private final ObjectMapper mapper;
+    private final TimestampFormat timestampFormat;
+
+    /**
+     * JSON ve NDJSON için converter oluşturur.
+     *
+     * @param mapper Uygulamanın JSON mapper'ı.
+     */
+    public StreamingSuccessResponseConverter(ObjectMapper mapper) {
+        this(mapper, TimestampFormat.PATTERN, MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+    }
+
+    /**
+     * @param mapper          Verilen media type'lara uygun mapper.
+     * @param timestampFormat Timestamp biçimi.
+     * @param mediaTypes      Desteklenen media type'lar.
+     */
+    public StreamingSuccessResponseConverter(ObjectMapper mapper, TimestampFormat timestampFormat, MediaType... mediaTypes) {
+        super(UTF_8, mediaTypes);
+        this.mapper = mapper;
+        this.timestampFormat = timestampFormat;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return StreamingSuccessResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected StreamingSuccessResponse<?> readInternal(Class<? extends StreamingSuccessResponse<?>> clazz,
+                                                       HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("StreamingSuccessResponse okunamaz");
+    }
+
+    @Override
+    protected void writeInternal(StreamingSuccessResponse<?> response, HttpOutputMessage outputMessage)
+            throws IOException {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(outputMessage.getHeaders().getContentType());
+        var writer = ndjson ? mapper.writer().withRootValueSeparator("\n") : mapper.writer();
+        try (response; var generator = writer.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()))) {
+            if (ndjson) writeLines(response, generator);
+            else writeObject(response, generator);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new HttpMessageNotWritableException("Streaming response kaynağı kapatılamadı", e);
+        }
+    }
+
+    private void writeObject(StreamingSuccessResponse<?> response, JsonGenerator generator) {
+        generator.writeStartObject();
+        writeEnvelope(response, generator);
+        generator.writeName("data");
+        generator.writeStartArray();
+        long size = 0;
+        var elements = response.elements();
+        while (elements.hasNext()) {
+            generator.writePOJO(elements.next());
+            size++;
+        }
+        generator.writeEndArray();
+        writeTrailer(response, generator, size);
+        generator.writeEndObject();
+    }
+
+    private void writeLines(StreamingSuccessResponse<?> response, JsonGenerator generator) {
+        generator.writeStartObject();
+        writeEnvelope(response, generator);
+        generator.writeEndObject();
+        long size = 0;
+        var elements = response.elements();
+        while (elements.hasNext()) {
+            generator.writePOJO(elements.next());
+            size++;
+        }
+        generator.writeStartObject();
+        writeTrailer(response, generator, size);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeEnvelope(StreamingSuccessResponse<?> response, JsonGenerator generator) {
+        generator.writeName("timestamp");
+        writeTimestamp(generator, response.getTimestamp());
+        generator.writeName("traceId");
+        generator.writeString(response.getTraceId());
+        generator.writeName("type");
+        generator.writeString(response.getType());
+        generator.writeName("code");
+        generator.writeString(response.getCode());
+        generator.writeName("message");
+        generator.writePOJO(response.getMessage());
+        generator.writeName("success");
+        generator.writeBoolean(response.isSuccess());
+    }
+
+    private void writeTrailer(StreamingSuccessResponse<?> response, JsonGenerator generator, long size) {
+        if (response.getHasNext() != null) {
+            generator.writeName("hasNext");
+            generator.writeBoolean(response.getHasNext());
+        }
+        generator.writeName("size");
+        generator.writeNumber(size);
+    }
+
+    private void writeTimestamp(JsonGenerator generator, LocalDateTime timestamp) {
+        if (timestamp == null) generator.writeNull();
+        else if (timestampFormat == TimestampFormat.EPOCH_MILLIS) generator.writeNumber(EpochMillisSerializer.toEpochMillis(timestamp));
+        else generator.writeString(TEXT_FORMATTER.format(timestamp));
+    }
+}
@@ -0,0 +1,170 @@
+package com.kalayciburak.commonpackage.web.filter.config;
+
+import com.kalayciburak.commonpackage.web.filter.route.CaptureLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code api-log.*} altındaki API loglama ayarlarını taşır.
+ * <p>
+ * Tüm değerlerin varsayılanı mevcut davranışı korur; servisler yalnızca ihtiyaç
+ * duydukları ayarları {@code application.yml} üzerinden değiştirir.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "api-log")
+public class ApiLogProperties {
+    /**
+     * Request ve response body'lerinin loglama için yakalanabileceği varsayılan maksimum byte sayısı.
+     */
+    public static final int DEFAULT_MAX_PAYLOAD_LENGTH = 64 * 1024;
+
+    /**
+     * Response body'sinin nasıl yakalanacağı.
+     */
+    private CaptureMode captureMode = CaptureMode.BUFFERED;
+
+    /**
+     * Loglama için yakalanacak maksimum body uzunluğu (byte).
+     */
+    private int maxPayloadLength = DEFAULT_MAX_PAYLOAD_LENGTH;
+
+    /**
+     * Log kayıtlarının request thread'i dışında işlenmesine ait ayarlar.
+     */
+    private Async async = new Async();
+
+    /**
+     * API_LOG kayıtlarının örnekleme ve hız sınırlama ayarları.
+     */
+    private Sampling sampling = new Sampling();
+
+    /**
+     * Route bazlı loglama kuralları. Başlangıçta bir kez derlenir; ilk tanımlanan eşleşen kural uygulanır.
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Async {
+        /**
+         * true ise body decode, header serileştirme ve GELF gönderimi arka plan thread'inde yapılır.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Kuyrukta bekleyebilecek maksimum log kaydı sayısı.
+         */
+        private int queueCapacity = 8192;
+
+        /**
+         * Tüketici thread'in tek seferde kuyruktan aldığı maksimum kayıt sayısı.
+         */
+        private int batchSize = 256;
+
+        /**
+         * Kuyruk dolduğunda uygulanacak politika.
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+        /**
+         * {@link OverflowPolicy#BLOCK} politikasında request thread'inin kuyrukta yer açılmasını
+         * bekleyebileceği en uzun süre. Süre dolarsa kayıt atılır.
+         */
+        private Duration blockTimeout = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Sampling {
+        /**
+         * true ise örnekleme ve hız sınırı uygulanır; false ise her istek loglanır.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Hiçbir route kuralına uymayan istekler için örnekleme oranı (0.0 - 1.0).
+         */
+        private double rate = 1.0;
+
+        /**
+         * true ise 4xx/5xx yanıtlar örnekleme oranından bağımsız olarak loglanır.
+         */
+        private boolean alwaysLogErrors = true;
+
+        /**
+         * Bu süreyi (ms) aşan istekler örnekleme oranından bağımsız olarak loglanır. 0 ise devre dışıdır.
+         */
+        private long slowThresholdMs = 1000;
+
+        /**
+         * Saniyede yazılabilecek maksimum API_LOG kaydı. Hata ve yavaş istekler bu sınıra dahil değildir.
+         * 0 ise sınır yoktur.
+         */
+        private long maxEventsPerSecond = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class Route {
+        /**
+         * Ant tarzı path pattern'i ({@code *}, {@code **}, {@code {var}} ve {@code *.js} gibi segment glob'ları).
+         */
+        private String pattern;
+
+        /**
+         * Kuralın uygulanacağı HTTP metodları. Boş ise tüm metodlar.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Kuralın uygulanacağı istek Content-Type önekleri. Boş ise tüm içerik tipleri.
+         */
+        private List<String> contentTypes = new ArrayList<>();
+
+        /**
+         * Eşleşen istekler için loglama seviyesi.
+         */
+        private CaptureLevel level = CaptureLevel.FULL;
+
+        /**
+         * Eşleşen istekler için örnekleme oranı. Tanımlı değilse {@code sampling.rate} kullanılır.
+         */
+        private Double sampleRate;
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * Kuyruktaki en eski kayıt atılır, yeni kayıt eklenir.
+         */
+        DROP_OLDEST,
+        /**
+         * Yeni kayıt atılır.
+         */
+        DROP_NEWEST,
+        /**
+         * Request thread'i kuyrukta yer açılana kadar en fazla {@code blockTimeout} süresince bekler.
+         */
+        BLOCK
+    }
+
+    public enum CaptureMode {
+        /**
+         * Response body'si tamamen bellekte tutulur, handler bittikten sonra client'a yazılır.
+         * Content-Length header'ı korunur.
+         */
+        BUFFERED,
+        /**
+         * Response body'si doğrudan client'a akar, sadece ilk {@code maxPayloadLength} byte
+         * loglama için kopyalanır. Büyük ve chunked response'larda bellek kullanımı sabit kalır.
+         */
+        STREAMING
+    }
+}
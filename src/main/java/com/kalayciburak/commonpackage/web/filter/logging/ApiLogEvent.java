@@ -0,0 +1,167 @@
+package com.kalayciburak.commonpackage.web.filter.logging;
+
+import com.kalayciburak.commonpackage.web.filter.constant.LogTypes;
+import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import static com.kalayciburak.commonpackage.web.filter.util.CharsetCache.resolve;
+import static com.kalayciburak.commonpackage.web.filter.util.HeaderJsonWriter.toJson;
+
+/**
+ * Decode edilmiş body ve header alanlarıyla birlikte yazılmaya hazır API log olayı.
+ *
+ * <p>
+ * Alanlar MDC yerine SLF4J 2 fluent API'sinin {@code addKeyValue} çağrısı ile olaya
+ * eklenir; {@code GelfEncoder} bu anahtar/değer çiftlerini GELF ek alanları olarak yazar.
+ * Böylece alanlar thread-local bir haritaya kopyalanmaz, thread'ler arasında sızmaz ve
+ * olay hangi thread'de yazılırsa yazılsın aynı alanları taşır. Alan isimleri önceki MDC
+ * anahtarlarıyla aynıdır; Graylog tarafındaki stream ve dashboard'lar değişmeden çalışır.
+ * </p>
+ *
+ * @param snapshot        İsteğe ait değişmez log kaydı
+ * @param requestBody     İstek gövdesinin String formatındaki hali
+ * @param responseBody    Yanıt gövdesinin String formatındaki hali
+ * @param requestHeaders  İstek başlıklarının JSON formatındaki hali (seviye header içermiyorsa null)
+ * @param responseHeaders Yanıt başlıklarının JSON formatındaki hali (seviye header içermiyorsa null)
+ */
+public record ApiLogEvent(ApiLogSnapshot snapshot,
+                          String requestBody,
+                          String responseBody,
+                          String requestHeaders,
+                          String responseHeaders) {
+    private static final String NOT_CAPTURED = "[NOT_CAPTURED: level=%s]";
+    private static final String MESSAGE = "log_type={}, status_code={}, request_method={}, uri={}";
+
+    /**
+     * Kayıttaki body'leri decode edip header'ları JSON'a çevirerek olayı oluşturur.
+     *
+     * @param snapshot İsteğe ait log kaydı
+     * @return Yazılmaya hazır log olayı
+     */
+    public static ApiLogEvent from(ApiLogSnapshot snapshot) {
+        var level = snapshot.captureLevel();
+        var notCaptured = level.includesBody() ? null : NOT_CAPTURED.formatted(level);
+
+        var requestBody = notCaptured != null ? notCaptured
+                : snapshot.requestBody() == null
+                ? skipped(snapshot.contentType())
+                : snapshot.requestBody().decode(resolve(snapshot.characterEncoding()));
+
+        var responseBody = notCaptured != null ? notCaptured
+                : snapshot.responseBody() == null
+                ? skipped(snapshot.responseContentType())
+                : snapshot.responseBody().decode(resolve(snapshot.responseEncoding()));
+
+        var requestHeaders = level.includesHeaders() ? toJson(snapshot.requestHeaders()) : null;
+        var responseHeaders = level.includesHeaders() ? toJson(snapshot.responseHeaders()) : null;
+
+        return new ApiLogEvent(snapshot, requestBody, responseBody, requestHeaders, responseHeaders);
+    }
+
+    /**
+     * Olayı verilen logger'a DEBUG seviyesinde yazar.
+     *
+     * @param log Hedef logger
+     */
+    public void emit(Logger log) {
+        var builder = log.atDebug();
+        addBasicRequestInfo(builder);
+        addTimingInfo(builder);
+        addClientAndServerInfo(builder);
+        addTechnicalRequestDetails(builder);
+        addAuthenticationInfo(builder);
+        addRequestResponseContent(builder);
+
+        builder.log(MESSAGE, LogTypes.API_LOG, snapshot.statusCode(), snapshot.method(), snapshot.uri());
+    }
+
+    /**
+     * Temel API isteği ve yanıt bilgilerini olaya ekler.
+     *
+     * @param builder Log olayı
+     */
+    private void addBasicRequestInfo(LoggingEventBuilder builder) {
+        builder.addKeyValue("log_type", LogTypes.API_LOG)
+                .addKeyValue("request_method", snapshot.method())
+                .addKeyValue("uri", snapshot.uri())
+                .addKeyValue("query_string", snapshot.queryString())
+                .addKeyValue("status_code", String.valueOf(snapshot.statusCode()))
+                .addKeyValue("execution_time_ms", String.valueOf(snapshot.executionTime()));
+    }
+
+    /**
+     * İsteğin aşama sürelerini mikrosaniye olarak olaya ekler.
+     * <p>
+     * Aşamalar ölçülmediyse alanlar eklenmez.
+     *
+     * @param builder Log olayı
+     */
+    private void addTimingInfo(LoggingEventBuilder builder) {
+        var phases = snapshot.phases();
+        if (phases == null) return;
+        builder.addKeyValue("execution_time_us", micros(phases.totalNanos()))
+                .addKeyValue("phase_pre_handle_us", micros(phases.preHandleNanos()))
+                .addKeyValue("phase_handler_us", micros(phases.handlerNanos()))
+                .addKeyValue("phase_serialization_us", micros(phases.serializationNanos()))
+                .addKeyValue("phase_flush_us", micros(phases.flushNanos()))
+                .addKeyValue("phase_logging_us", micros(phases.loggingNanos()));
+    }
+
+    /**
+     * İstemci (client) ve sunucu (server) ile ilgili bilgileri olaya ekler.
+     *
+     * @param builder Log olayı
+     */
+    private void addClientAndServerInfo(LoggingEventBuilder builder) {
+        builder.addKeyValue("remote_address", snapshot.remoteAddress())
+                .addKeyValue("remote_port", String.valueOf(snapshot.remotePort()))
+                .addKeyValue("server_address", snapshot.serverAddress())
+                .addKeyValue("server_port", String.valueOf(snapshot.serverPort()));
+    }
+
+    /**
+     * İstek ile ilgili teknik detayları olaya ekler.
+     *
+     * @param builder Log olayı
+     */
+    private void addTechnicalRequestDetails(LoggingEventBuilder builder) {
+        builder.addKeyValue("content_type", snapshot.contentType())
+                .addKeyValue("content_length", String.valueOf(snapshot.contentLength()))
+                .addKeyValue("character_encoding", snapshot.characterEncoding())
+                .addKeyValue("protocol", snapshot.protocol())
+                .addKeyValue("scheme", snapshot.scheme())
+                .addKeyValue("secure", String.valueOf(snapshot.secure()))
+                .addKeyValue("user_agent", snapshot.userAgent());
+    }
+
+    /**
+     * Kimlik doğrulama bilgilerini (varsa) olaya ekler.
+     *
+     * @param builder Log olayı
+     */
+    private void addAuthenticationInfo(LoggingEventBuilder builder) {
+        if (snapshot.remoteUser() != null) builder.addKeyValue("remote_user", snapshot.remoteUser());
+    }
+
+    /**
+     * İstek ve yanıt içeriği ile başlık bilgilerini olaya ekler.
+     * <p>
+     * Route seviyesi header içermiyorsa başlık alanları eklenmez.
+     *
+     * @param builder Log olayı
+     */
+    private void addRequestResponseContent(LoggingEventBuilder builder) {
+        builder.addKeyValue("request_body", requestBody)
+                .addKeyValue("response_body", responseBody);
+        if (requestHeaders != null) builder.addKeyValue("request_headers", requestHeaders);
+        if (responseHeaders != null) builder.addKeyValue("response_headers", responseHeaders);
+    }
+
+    private static String micros(long nanos) {
+        return String.valueOf(nanos / 1_000);
+    }
+
+    private static String skipped(String contentType) {
+        return "[SKIPPED: content-type=" + contentType + "]";
+    }
+}
@@ -0,0 +1,167 @@
+package com.kalayciburak.commonpackage.web.filter.logging;
+
+import com.kalayciburak.commonpackage.web.filter.config.ApiLogProperties;
+import com.kalayciburak.commonpackage.web.filter.config.ApiLogProperties.OverflowPolicy;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API log kayıtlarını senkron ya da asenkron olarak {@link ApiLogWriter}'a iletir.
+ *
+ * <p>
+ * {@code api-log.async.enabled=true} olduğunda kayıtlar sabit kapasiteli bir halka
+ * kuyruğa (ring buffer) alınır ve tek bir daemon thread tarafından toplu halde
+ * yazılır. Böylece decode, JSON serileştirme ve GELF gönderimi request süresine
+ * eklenmez. Kuyruk dolduğunda {@link OverflowPolicy} uygulanır ve atılan kayıtlar
+ * sayılır.
+ * </p>
+ */
+@Component
+public class ApiLogPublisher {
+    private static final long SHUTDOWN_TIMEOUT_MS = 5_000;
+    private static final Logger log = LoggerFactory.getLogger(ApiLogPublisher.class);
+
+    private final ApiLogWriter writer = new ApiLogWriter();
+    private final ApiLogProperties.Async settings;
+    private final BlockingQueue<ApiLogSnapshot> queue;
+    private final Thread consumer;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean running;
+
+    public ApiLogPublisher(ApiLogProperties properties) {
+        this.settings = properties.getAsync();
+        if (settings.isEnabled()) {
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity()));
+            this.consumer = Thread.ofPlatform()
+                    .name("api-log-publisher")
+                    .daemon()
+                    .unstarted(this::consume);
+            this.running = true;
+            this.consumer.start();
+        } else {
+            this.queue = null;
+            this.consumer = null;
+        }
+    }
+
+    /**
+     * Kaydı yazar ya da kuyruğa ekler.
+     * <p>
+     * Tüketici thread durdurulduktan sonra (graceful shutdown sırasında tamamlanan istekler) kayıt
+     * kuyruğa alınmaz, doğrudan yazılır.
+     *
+     * @param snapshot İsteğe ait log kaydı
+     */
+    public void publish(ApiLogSnapshot snapshot) {
+        if (queue == null || !running) {
+            writer.write(snapshot);
+            published.increment();
+            return;
+        }
+
+        if (enqueue(snapshot)) published.increment();
+        else dropped.increment();
+    }
+
+    /**
+     * @return Yazılan ya da kuyruğa alınan toplam kayıt sayısı
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * @return Kuyruk dolduğu için atılan toplam kayıt sayısı
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return Kuyrukta bekleyen kayıt sayısı (senkron modda 0)
+     */
+    public int getQueueSize() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Tüketici thread'i durdurur ve kuyrukta kalan kayıtları yazar.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (consumer == null) return;
+        running = false;
+        consumer.interrupt();
+        try {
+            consumer.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean enqueue(ApiLogSnapshot snapshot) {
+        return switch (settings.getOverflowPolicy()) {
+            case DROP_NEWEST -> queue.offer(snapshot);
+            case DROP_OLDEST -> offerDroppingOldest(snapshot);
+            case BLOCK -> putBlocking(snapshot);
+        };
+    }
+
+    private boolean offerDroppingOldest(ApiLogSnapshot snapshot) {
+        while (!queue.offer(snapshot)) {
+            if (queue.poll() != null) dropped.increment();
+        }
+
+        return true;
+    }
+
+    private boolean putBlocking(ApiLogSnapshot snapshot) {
+        try {
+            return queue.offer(snapshot, settings.getBlockTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Kuyruktan kayıtları toplu halde alıp yazar. Durdurulduğunda kalan kayıtları boşaltır.
+     */
+    private void consume() {
+        int batchSize = Math.max(1, settings.getBatchSize());
+        var batch = new ArrayList<ApiLogSnapshot>(batchSize);
+        while (running) {
+            try {
+                var first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                if (!running) break;
+            }
+        }
+
+        while (queue.drainTo(batch, batchSize) > 0) writeBatch(batch);
+    }
+
+    private void writeBatch(ArrayList<ApiLogSnapshot> batch) {
+        for (var snapshot : batch) {
+            try {
+                writer.write(snapshot);
+            } catch (RuntimeException e) {
+                log.warn("API log kaydı yazılamadı: {}", e.getMessage());
+            }
+        }
+        batch.clear();
+    }
+}
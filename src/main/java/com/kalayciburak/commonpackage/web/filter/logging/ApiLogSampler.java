@@ -0,0 +1,81 @@
+package com.kalayciburak.commonpackage.web.filter.logging;
+
+import com.kalayciburak.commonpackage.web.filter.config.ApiLogProperties;
+import com.kalayciburak.commonpackage.web.filter.route.LogRoute;
+import com.kalayciburak.commonpackage.web.filter.util.TokenBucket;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * API_LOG kayıtları için örnekleme ve saniye bazlı hız sınırı kararlarını verir.
+ *
+ * <p>
+ * Karar iki aşamada verilir: istek girişinde {@link #isSampled(LogRoute)}
+ * isteğin örneklenip örneklenmediğini belirler; örneklenmeyen istekler için body
+ * sarmalayıcıları hiç oluşturulmaz. İstek tamamlandığında {@link #shouldLog(boolean, int, long)}
+ * kaydın yazılıp yazılmayacağını belirler; hata ve yavaş istekler örneklenmemiş olsalar
+ * bile (body'siz olarak) loglanır.
+ * </p>
+ *
+ * <p>
+ * {@code maxEventsPerSecond} tanımlıysa örneklenen kayıtlar bir {@link TokenBucket} ile sınırlanır.
+ * Hata ve yavaş istekler kovaya takılmaz ve token tüketmez; yoğun normal trafik bu kayıtları
+ * bastıramaz. Kova boşaldığında yeni istekler için body yakalama da atlanır; böylece yük altında
+ * örnekleme oranı kendiliğinden düşer.
+ * </p>
+ */
+@Component
+public class ApiLogSampler {
+    private final ApiLogProperties.Sampling settings;
+    private final TokenBucket bucket;
+
+    public ApiLogSampler(ApiLogProperties properties) {
+        this.settings = properties.getSampling();
+        this.bucket = settings.getMaxEventsPerSecond() > 0
+                ? new TokenBucket(settings.getMaxEventsPerSecond())
+                : null;
+    }
+
+    /**
+     * İsteğin örneklenip örneklenmediğini belirler.
+     * <p>
+     * Route'a özel bir oran tanımlıysa o, değilse {@code sampling.rate} kullanılır.
+     *
+     * @param route İsteğin eşleştiği route sonucu
+     * @return true ise istek route seviyesine göre tam olarak yakalanır
+     */
+    public boolean isSampled(LogRoute route) {
+        if (!settings.isEnabled()) return true;
+        if (bucket != null && !bucket.hasCapacity()) return false;
+
+        double rate = route.sampleRate() != null ? route.sampleRate() : settings.getRate();
+        if (rate >= 1.0) return true;
+        if (rate <= 0.0) return false;
+
+        return ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * Tamamlanan isteğin loglanıp loglanmayacağını belirler.
+     *
+     * @param sampled       İsteğin örneklenip örneklenmediği
+     * @param statusCode    Yanıt durum kodu
+     * @param executionTime İsteğin işlenme süresi (ms)
+     * @return true ise kayıt yazılmalıdır
+     */
+    public boolean shouldLog(boolean sampled, int statusCode, long executionTime) {
+        if (!settings.isEnabled()) return true;
+        if (isForced(statusCode, executionTime)) return true;
+        if (!sampled) return false;
+
+        return bucket == null || bucket.tryAcquire();
+    }
+
+    private boolean isForced(int statusCode, long executionTime) {
+        boolean error = settings.isAlwaysLogErrors() && statusCode >= 400;
+        boolean slow = settings.getSlowThresholdMs() > 0 && executionTime >= settings.getSlowThresholdMs();
+
+        return error || slow;
+    }
+}
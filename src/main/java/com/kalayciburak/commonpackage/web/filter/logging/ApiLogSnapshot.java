@@ -0,0 +1,136 @@
+package com.kalayciburak.commonpackage.web.filter.logging;
+
+import com.kalayciburak.commonpackage.core.util.trace.TraceContext;
+import com.kalayciburak.commonpackage.web.filter.route.CaptureLevel;
+import com.kalayciburak.commonpackage.web.filter.timing.RequestPhases;
+import com.kalayciburak.commonpackage.web.filter.util.HeaderSnapshot;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static com.kalayciburak.commonpackage.web.filter.util.HeaderUtils.snapshotRequestHeaders;
+import static com.kalayciburak.commonpackage.web.filter.util.HeaderUtils.snapshotResponseHeaders;
+
+/**
+ * Bir API isteğinin loglanması için gereken tüm verilerin değişmez kopyası.
+ * <p>
+ * Request ve response nesneleri container tarafından tekrar kullanıldığından, loglama
+ * request thread'i dışında yapılacaksa gerekli alanlar filtre içinde bu kayda alınır.
+ * Body'ler yakalama sınırı kadar {@link BodySlice} olarak, header'lar isim/değer dizileri olarak
+ * saklanır; decode ve JSON serileştirme işlemleri log yazılırken yapılır.
+ *
+ * @param traceId             İsteğe ait traceId (yoksa null)
+ * @param method              HTTP metodu
+ * @param uri                 İstek URI'ı
+ * @param queryString         Query string (yoksa boş)
+ * @param statusCode          Yanıt durum kodu
+ * @param executionTime       İsteğin işlenme süresi (ms)
+ * @param remoteAddress       İstemci adresi
+ * @param remotePort          İstemci portu
+ * @param serverAddress       Sunucu adresi
+ * @param serverPort          Sunucu portu
+ * @param contentType         İstek Content-Type değeri
+ * @param contentLength       İstek Content-Length değeri
+ * @param characterEncoding   İstek karakter encoding'i
+ * @param protocol            İstek protokolü
+ * @param scheme              İstek şeması
+ * @param secure              İsteğin güvenli kanal üzerinden gelip gelmediği
+ * @param userAgent           User-Agent header değeri
+ * @param remoteUser          Kimliği doğrulanmış kullanıcı (yoksa null)
+ * @param captureLevel        Kayda yazılacak bilgi seviyesi
+ * @param requestBody         Yakalanan istek body'si (atlandıysa null)
+ * @param responseContentType Yanıt Content-Type değeri
+ * @param responseEncoding    Yanıt karakter encoding'i
+ * @param responseBody        Yakalanan yanıt body'si (atlandıysa null)
+ * @param requestHeaders      İstek header'ları
+ * @param responseHeaders     Yanıt header'ları
+ * @param phases              İsteğin aşama süreleri (ölçülmediyse null)
+ */
+public record ApiLogSnapshot(String traceId,
+                             String method,
+                             String uri,
+                             String queryString,
+                             int statusCode,
+                             long executionTime,
+                             String remoteAddress,
+                             int remotePort,
+                             String serverAddress,
+                             int serverPort,
+                             String contentType,
+                             int contentLength,
+                             String characterEncoding,
+                             String protocol,
+                             String scheme,
+                             boolean secure,
+                             String userAgent,
+                             String remoteUser,
+                             CaptureLevel captureLevel,
+                             BodySlice requestBody,
+                             String responseContentType,
+                             String responseEncoding,
+                             BodySlice responseBody,
+                             HeaderSnapshot requestHeaders,
+                             HeaderSnapshot responseHeaders,
+                             RequestPhases phases) {
+    /**
+     * İstek ve yanıttan değişmez bir log kaydı oluşturur.
+     *
+     * @param request       HTTP isteği
+     * @param response      HTTP yanıtı
+     * @param captureLevel  Kayda yazılacak bilgi seviyesi
+     * @param requestBody   Yakalanan istek body'si (atlandıysa null)
+     * @param responseBody  Yakalanan yanıt body'si (atlandıysa null)
+     * @param executionTime İsteğin işlenme süresi (ms)
+     * @return Oluşturulan log kaydı
+     */
+    public static ApiLogSnapshot of(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    CaptureLevel captureLevel,
+                                    BodySlice requestBody,
+                                    BodySlice responseBody,
+                                    long executionTime) {
+        return new ApiLogSnapshot(
+                traceId(request),
+                request.getMethod(),
+                request.getRequestURI(),
+                request.getQueryString() != null ? request.getQueryString() : "",
+                response.getStatus(),
+                executionTime,
+                request.getRemoteAddr(),
+                request.getRemotePort(),
+                request.getLocalAddr(),
+                request.getLocalPort(),
+                request.getContentType(),
+                request.getContentLength(),
+                request.getCharacterEncoding(),
+                request.getProtocol(),
+                request.getScheme(),
+                request.isSecure(),
+                request.getHeader("User-Agent"),
+                request.getRemoteUser(),
+                captureLevel,
+                requestBody,
+                response.getContentType(),
+                response.getCharacterEncoding(),
+                responseBody,
+                captureLevel.includesHeaders() ? snapshotRequestHeaders(request) : HeaderSnapshot.EMPTY,
+                captureLevel.includesHeaders() ? snapshotResponseHeaders(response) : HeaderSnapshot.EMPTY,
+                null);
+    }
+
+    /**
+     * @param phases İsteğin aşama süreleri
+     * @return Aşama süreleri eklenmiş log kaydı
+     */
+    public ApiLogSnapshot withPhases(RequestPhases phases) {
+        return new ApiLogSnapshot(traceId, method, uri, queryString, statusCode, executionTime, remoteAddress,
+                remotePort, serverAddress, serverPort, contentType, contentLength, characterEncoding, protocol, scheme,
+                secure, userAgent, remoteUser, captureLevel, requestBody, responseContentType, responseEncoding,
+                responseBody, requestHeaders, responseHeaders, phases);
+    }
+
+    private static String traceId(HttpServletRequest request) {
+        var context = TraceContext.of(request);
+
+        return context != null ? context.traceId() : null;
+    }
+}
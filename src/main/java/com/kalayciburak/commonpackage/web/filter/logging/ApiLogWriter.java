@@ -0,0 +1,46 @@
+package com.kalayciburak.commonpackage.web.filter.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.Objects;
+
+/**
+ * {@link ApiLogSnapshot} kayıtlarını {@link ApiLogEvent} olarak API_LOG'a yazar.
+ * <p>
+ * Body decode ve header serileştirme {@link ApiLogEvent#from(ApiLogSnapshot)} içinde,
+ * body'ler yakalama tamponundan devralınan diziden tek seferde yapılır. Senkron modda
+ * request thread'inde, asenkron modda {@link ApiLogPublisher} tüketici thread'inde çağrılır.
+ */
+public class ApiLogWriter {
+    private static final String TRACE_ID_KEY = "traceId";
+    /**
+     * logback-spring.xml içindeki GELF yönlendirmesi {@link LoggingFilter} logger'ına bağlı
+     * olduğundan aynı logger kullanılır.
+     */
+    private static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
+
+    /**
+     * Kaydı structured alanlarla loglar.
+     * <p>
+     * GELF short message şablonu traceId'yi MDC'den okuduğundan, kayıt farklı bir thread'de
+     * yazılıyorsa yalnızca traceId geçici olarak MDC'ye konur ve ardından geri alınır.
+     *
+     * @param snapshot İsteğe ait log kaydı
+     */
+    public void write(ApiLogSnapshot snapshot) {
+        if (!log.isDebugEnabled()) return;
+
+        var event = ApiLogEvent.from(snapshot);
+        var traceId = snapshot.traceId();
+        if (traceId == null || Objects.equals(MDC.get(TRACE_ID_KEY), traceId)) {
+            event.emit(log);
+            return;
+        }
+
+        try (var ignored = MDC.putCloseable(TRACE_ID_KEY, traceId)) {
+            event.emit(log);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.kalayciburak.commonpackage.web.filter.logging;
+
+import java.nio.charset.Charset;
+
+/**
+ * Loglama için yakalanan body'nin log kaydına taşınan görünümü.
+ * <p>
+ * {@code bytes} dizisinin yalnızca ilk {@code length} byte'ı geçerlidir. Dizi log kaydına
+ * aittir ve kayıt yazılana kadar değiştirilmez; body log'a yazılırken yalnızca bir kez decode edilir.
+ *
+ * @param bytes     Body byte'ları
+ * @param length    Geçerli byte sayısı
+ * @param truncated Body'nin sınır nedeniyle kesilip kesilmediği
+ */
+public record BodySlice(byte[] bytes, int length, boolean truncated) {
+    public static final BodySlice EMPTY = new BodySlice(new byte[0], 0, false);
+    private static final String TRUNCATED_SUFFIX = "...[TRUNCATED]";
+
+    /**
+     * Body'yi verilen charset ile tek seferde String'e çevirir.
+     * <p>
+     * Kesilmiş body'lerin sonuna {@value #TRUNCATED_SUFFIX} eklenir. Sınırda bölünen çok
+     * byte'lı karakterler decoder tarafından yer tutucu karakter ile değiştirilir.
+     *
+     * @param charset Body'nin karakter seti
+     * @return Loglanacak body
+     */
+    public String decode(Charset charset) {
+        if (length == 0) return truncated ? TRUNCATED_SUFFIX : "";
+        var text = new String(bytes, 0, length, charset);
+
+        return truncated ? text.concat(TRUNCATED_SUFFIX) : text;
+    }
+}
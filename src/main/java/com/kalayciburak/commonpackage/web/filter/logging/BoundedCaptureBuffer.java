@@ -0,0 +1,125 @@
+package com.kalayciburak.commonpackage.web.filter.logging;
+
+import java.util.Arrays;
+
+/**
+ * Yazılan byte'ların yalnızca ilk {@code limit} kadarını saklayan tampon.
+ * <p>
+ * Tampon ihtiyaç oldukça büyür ve hiçbir zaman {@code limit} değerini aşmaz.
+ * Sınırı aşan byte'lar sayılır fakat saklanmaz; böylece log'da kesilmiş body
+ * gösterilirken toplam boyut da bilinir.
+ * <p>
+ * Çalışma dizisi thread başına tutulan yedekten alınır ve {@link #release()} ile geri bırakılır;
+ * böylece her istek için büyüyen diziler yeniden ayrılmaz. Log kaydına {@link #copy()} ile yalnızca
+ * saklanan byte'lar kadar bir kopya verilir, çalışma dizisi log kaydıyla paylaşılmaz.
+ */
+public class BoundedCaptureBuffer {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte[] EMPTY = new byte[0];
+    private static final ThreadLocal<byte[]> SPARE = new ThreadLocal<>();
+
+    private final int limit;
+    private byte[] buffer = EMPTY;
+    private int count;
+    private long totalLength;
+
+    public BoundedCaptureBuffer(int limit) {
+        this.limit = Math.max(0, limit);
+    }
+
+    /**
+     * Tek bir byte yazar.
+     *
+     * @param b Yazılacak byte
+     */
+    public void write(int b) {
+        totalLength++;
+        if (count >= limit) return;
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    /**
+     * Verilen dizinin belirtilen aralığını sınır dahilinde yazar.
+     *
+     * @param bytes  Kaynak dizi
+     * @param offset Başlangıç indeksi
+     * @param length Yazılacak byte sayısı
+     */
+    public void write(byte[] bytes, int offset, int length) {
+        totalLength += length;
+        int writable = Math.min(length, limit - count);
+        if (writable <= 0) return;
+        ensureCapacity(count + writable);
+        System.arraycopy(bytes, offset, buffer, count, writable);
+        count += writable;
+    }
+
+    /**
+     * Tamponu boşaltır, ayrılmış diziyi tekrar kullanım için korur.
+     */
+    public void reset() {
+        count = 0;
+        totalLength = 0;
+    }
+
+    /**
+     * Saklanan byte'ları log kaydına taşınacak bir {@link BodySlice} olarak kopyalar.
+     * <p>
+     * Kopya yalnızca saklanan byte'lar kadardır; çalışma dizisi tamponda kalır.
+     *
+     * @return Yakalanan body görünümü
+     */
+    public BodySlice copy() {
+        if (count == 0 && totalLength == 0) return BodySlice.EMPTY;
+
+        return new BodySlice(Arrays.copyOf(buffer, count), count, isTruncated());
+    }
+
+    /**
+     * Tamponu sıfırlar ve çalışma dizisini çağıran thread'in yedeği olarak bırakır.
+     * <p>
+     * Thread'in zaten bir yedeği varsa dizi bırakılmaz. Yakalama bittikten sonra bir kez çağrılmalıdır.
+     */
+    public void release() {
+        if (buffer != EMPTY && SPARE.get() == null) SPARE.set(buffer);
+        buffer = EMPTY;
+        reset();
+    }
+
+    /**
+     * @return Saklanan byte sayısı
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return Sınır nedeniyle saklanmayan byte olup olmadığı
+     */
+    public boolean isTruncated() {
+        return totalLength > count;
+    }
+
+    /**
+     * @return Tampona yazılmak istenen toplam byte sayısı
+     */
+    public long getTotalLength() {
+        return totalLength;
+    }
+
+    private void ensureCapacity(int required) {
+        if (buffer == EMPTY) buffer = acquire();
+        if (required <= buffer.length) return;
+        int newCapacity = Math.max(INITIAL_CAPACITY, buffer.length << 1);
+        buffer = Arrays.copyOf(buffer, Math.min(limit, Math.max(newCapacity, required)));
+    }
+
+    private static byte[] acquire() {
+        var spare = SPARE.get();
+        if (spare == null) return EMPTY;
+        SPARE.remove();
+
+        return spare;
+    }
+}
@@ -1,44 +1,49 @@
 package com.kalayciburak.commonpackage.web.filter.logging;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.kalayciburak.commonpackage.web.filter.constant.LogTypes;
+import com.kalayciburak.commonpackage.web.filter.config.ApiLogProperties;
+import com.kalayciburak.commonpackage.web.filter.route.CaptureLevel;
+import com.kalayciburak.commonpackage.web.filter.route.LogRouteResolver;
+import com.kalayciburak.commonpackage.web.filter.timing.RequestPhases;
+import com.kalayciburak.commonpackage.web.filter.timing.RequestTiming;
+import com.kalayciburak.commonpackage.web.metrics.ApiMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-
-import static com.kalayciburak.commonpackage.web.filter.logging.LogContext.populateMDC;
-import static com.kalayciburak.commonpackage.web.filter.util.HeaderUtils.getRequestHeadersInfo;
-import static com.kalayciburak.commonpackage.web.filter.util.HeaderUtils.getResponseHeadersInfo;
 
 @Component
+@RequiredArgsConstructor
 public class LoggingFilter extends OncePerRequestFilter {
     /**
-     * Request ve response body'lerinin önbelleğe alınabileceği maksimum byte sayısı.
+     * Body yakalama modu ve request/response body'lerinin önbelleğe alınabileceği maksimum byte sayısı.
      * <p>
      * Büyük payload'ların (file upload, binary içerik vb.) belleği tüketmesini
      * engellemek amacıyla üst sınır olarak kullanılır.
      */
-    private static final int MAX_PAYLOAD_LENGTH = 64 * 1024;
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
+    private final ApiLogProperties properties;
+    private final ApiLogPublisher publisher;
+    private final ApiLogSampler sampler;
+    private final LogRouteResolver routeResolver;
+    private final ApiMetrics metrics;
 
     /**
-     * Actuator endpoint'lerini loglama dışında tutar.
+     * {@code api-log.routes} kurallarına göre {@link CaptureLevel#NONE} seviyesindeki istekleri
+     * loglama dışında tutar.
+     * <p>
+     * Varsayılan olarak actuator endpoint'leri hariç tutulur; Admin Server ve monitoring araçları
+     * bu endpoint'leri sürekli poll ettiğinden gereksiz log kirliliği önlenir. Kurallar başlangıçta
+     * derlendiğinden eşleştirme maliyeti kural sayısından bağımsızdır.
+     * </p>
      * <p>
-     * Admin Server ve monitoring araçları bu endpoint'leri sürekli poll ettiğinden
-     * gereksiz log kirliliğini önlemek için hariç tutulur.
+     * Metrikler loglama seviyesinden bağımsızdır; {@link ApiMetrics} açıksa bu istekler filtreden
+     * geçer ve yalnızca metrikleri kaydedilir.
      * </p>
      *
      * @param request HTTP isteği
@@ -46,7 +51,7 @@ public class LoggingFilter extends OncePerRequestFilter {
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        return request.getRequestURI().contains("/actuator");
+        return !metrics.isEnabled() && routeResolver.resolve(request).level() == CaptureLevel.NONE;
     }
 
     /**
@@ -60,8 +65,24 @@ public class LoggingFilter extends OncePerRequestFilter {
      * </p>
      *
      * <p>
-     * İstek işleme süresi ölçülür, header ve body bilgileri MDC (Mapped Diagnostic Context)
-     * içine yazılır ve response içeriği client'a geri aktarılır.
+     * {@link ApiLogProperties.CaptureMode#STREAMING} modunda response
+     * {@link StreamingCaptureResponseWrapper} ile sarmalanır; body doğrudan client'a
+     * akarken yalnızca ilk {@code maxPayloadLength} byte loglama için kopyalanır.
+     * </p>
+     *
+     * <p>
+     * Route seviyesi body içermiyorsa ya da {@link ApiLogSampler} isteği örneklemezse
+     * sarmalayıcılar hiç oluşturulmaz.
+     * İstek işleme süresi ölçülür, response içeriği client'a geri aktarılır ve header ile
+     * body bilgileri {@link ApiLogPublisher} üzerinden {@link ApiLogEvent} alanları olarak
+     * loglanır. Asenkron modda bu işlem request thread'inde yapılmaz.
+     * </p>
+     *
+     * <p>
+     * Süreler {@link RequestTiming} ile {@link System#nanoTime()} üzerinden ölçülür ve {@link RequestPhases}
+     * olarak handler öncesi, handler, serileştirme, flush ve loglama aşamalarına ayrılır. Aşamalar log
+     * kaydına eklenir; örneklemeden bağımsız olarak her isteğin süresi, aşamaları ve payload boyutları
+     * {@link ApiMetrics}'e kaydedilir.
      * </p>
      *
      * @param request     Gelen HTTP isteği
@@ -76,66 +97,231 @@ public class LoggingFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
-        var requestWrapper = new ContentCachingRequestWrapper(request, MAX_PAYLOAD_LENGTH);
-        var responseWrapper = new ContentCachingResponseWrapper(response);
-        long startTime = System.currentTimeMillis();
+        var timing = RequestTiming.start(request);
+        var route = routeResolver.resolve(request);
+        if (route.level() == CaptureLevel.NONE) {
+            filterMetricsOnly(request, response, filterChain, timing);
+            return;
+        }
+
+        boolean sampled = sampler.isSampled(route);
+        if (!sampled || !route.level().includesBody()) {
+            var level = route.level().includesBody() ? CaptureLevel.HEADERS : route.level();
+            filterWithoutCapture(request, response, filterChain, level, sampled, timing);
+            return;
+        }
+
+        int maxPayloadLength = properties.getMaxPayloadLength();
+        var requestWrapper = new ContentCachingRequestWrapper(request, maxPayloadLength);
+        var responseWrapper = wrapResponse(response, maxPayloadLength);
 
         try {
             filterChain.doFilter(requestWrapper, responseWrapper);
         } finally {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logRequestResponse(request, responseWrapper, requestWrapper, executionTime);
-            responseWrapper.copyBodyToResponse();
-            MDC.clear();
+            timing.markChainEnd();
+            timing.markFlushStart();
+            flushCapturedWriter(responseWrapper);
+            timing.markFlushEnd();
+
+            long executionTime = timing.elapsedMillis();
+            int status = responseWrapper.getStatus();
+            long responseBytes = capturedResponseSize(responseWrapper);
+
+            long loggingStart = System.nanoTime();
+            var snapshot = sampler.shouldLog(true, status, executionTime)
+                    ? snapshot(request, responseWrapper, requestWrapper, executionTime)
+                    : null;
+            timing.addLoggingNanos(System.nanoTime() - loggingStart);
+
+            timing.markFlushStart();
+            completeResponse(responseWrapper);
+            timing.markFlushEnd();
+
+            publish(snapshot, timing);
+            recordMetrics(request, status, timing, responseBytes);
         }
     }
 
     /**
-     * HTTP request ve response'a ait header, body ve süre bilgilerini loglar.
+     * Body yakalanmayacak istekleri sarmalayıcılar olmadan işler.
+     * <p>
+     * Body'ler hiç önbelleğe alınmaz. Örneklenen istekler verilen seviyede loglanır;
+     * örneklenmeyen istekler yalnızca hata ile ya da eşik süresinden yavaş tamamlanırsa loglanır.
+     *
+     * @param request     Gelen HTTP isteği
+     * @param response    Giden HTTP yanıtı
+     * @param filterChain Filter zinciri
+     * @param level       Kayda yazılacak bilgi seviyesi
+     * @param sampled     İsteğin örneklenip örneklenmediği
+     * @param timing      İsteğin zamanlayıcısı
+     * @throws ServletException Servlet hatası durumunda
+     * @throws IOException      IO hatası durumunda
+     */
+    private void filterWithoutCapture(HttpServletRequest request,
+                                      HttpServletResponse response,
+                                      FilterChain filterChain,
+                                      CaptureLevel level,
+                                      boolean sampled,
+                                      RequestTiming timing)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            timing.markChainEnd();
+            long executionTime = timing.elapsedMillis();
+            int status = response.getStatus();
+
+            long loggingStart = System.nanoTime();
+            var snapshot = sampler.shouldLog(sampled, status, executionTime)
+                    ? ApiLogSnapshot.of(request, response, level, null, null, executionTime)
+                    : null;
+            timing.addLoggingNanos(System.nanoTime() - loggingStart);
+
+            publish(snapshot, timing);
+            recordMetrics(request, status, timing, -1);
+        }
+    }
+
+    /**
+     * Loglanmayan ({@link CaptureLevel#NONE}) istekleri işler; yalnızca metrikleri kaydeder.
+     *
+     * @param request     Gelen HTTP isteği
+     * @param response    Giden HTTP yanıtı
+     * @param filterChain Filter zinciri
+     * @param timing      İsteğin zamanlayıcısı
+     * @throws ServletException Servlet hatası durumunda
+     * @throws IOException      IO hatası durumunda
+     */
+    private void filterMetricsOnly(HttpServletRequest request,
+                                   HttpServletResponse response,
+                                   FilterChain filterChain,
+                                   RequestTiming timing)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            timing.markChainEnd();
+            recordMetrics(request, response.getStatus(), timing, -1);
+        }
+    }
+
+    /**
+     * Log kaydını aşama süreleriyle birlikte yayınlar.
+     * <p>
+     * Kayıttaki loglama aşaması yalnızca kaydın hazırlanma süresini içerir; yayınlama süresi
+     * (senkron modda log yazımı) sonradan eklenir ve yalnızca metriklere yansır.
+     *
+     * @param snapshot Log kaydı, loglanmayacaksa null
+     * @param timing   İsteğin zamanlayıcısı
+     */
+    private void publish(ApiLogSnapshot snapshot, RequestTiming timing) {
+        if (snapshot == null) return;
+        long publishStart = System.nanoTime();
+        publisher.publish(snapshot.withPhases(timing.phases()));
+        timing.addLoggingNanos(System.nanoTime() - publishStart);
+    }
+
+    /**
+     * İsteğin süresini, aşamalarını ve payload boyutlarını metrik olarak kaydeder.
+     *
+     * @param request       HTTP isteği
+     * @param status        Yanıt durum kodu
+     * @param timing        İsteğin zamanlayıcısı
+     * @param responseBytes Yanıt body boyutu, bilinmiyorsa negatif
+     */
+    private void recordMetrics(HttpServletRequest request, int status, RequestTiming timing, long responseBytes) {
+        if (!metrics.isEnabled()) return;
+        var phases = timing.phases();
+        metrics.recordRequest(request, status, phases.totalNanos(), request.getContentLengthLong(), responseBytes);
+        metrics.recordPhases(phases);
+    }
+
+    /**
+     * @param responseWrapper Body'yi yakalayan response sarmalayıcısı
+     * @return Client'a yazılan ya da yazılacak body boyutu, bilinmiyorsa -1
+     */
+    private long capturedResponseSize(HttpServletResponse responseWrapper) {
+        return switch (responseWrapper) {
+            case ContentCachingResponseWrapper caching -> caching.getContentSize();
+            case StreamingCaptureResponseWrapper streaming -> streaming.getContentLength();
+            default -> -1;
+        };
+    }
+
+    /**
+     * Yapılandırılan yakalama moduna göre response sarmalayıcısını oluşturur.
+     *
+     * @param response         Orijinal HTTP yanıtı
+     * @param maxPayloadLength Streaming modda yakalanacak maksimum byte sayısı
+     * @return Body'yi yakalayan response sarmalayıcısı
+     */
+    private HttpServletResponse wrapResponse(HttpServletResponse response, int maxPayloadLength) {
+        return switch (properties.getCaptureMode()) {
+            case STREAMING -> new StreamingCaptureResponseWrapper(response, maxPayloadLength);
+            case BUFFERED -> new ContentCachingResponseWrapper(response);
+        };
+    }
+
+    /**
+     * Handler {@code getWriter()} kullandıysa encoder tamponunda kalan karakterleri aktarır.
+     * <p>
+     * Streaming modda body boyutu ve log kaydı alınmadan önce çağrılmalıdır; aksi halde body'nin
+     * son kısmı yakalanmaz.
+     *
+     * @param responseWrapper Body'yi yakalayan response sarmalayıcısı
+     */
+    private void flushCapturedWriter(HttpServletResponse responseWrapper) {
+        if (responseWrapper instanceof StreamingCaptureResponseWrapper streaming) streaming.flushWriter();
+    }
+
+    /**
+     * Sarmalayıcıda kalan body içeriğini client'a aktarır.
+     * <p>
+     * Streaming modda log kaydı bu noktada body'nin kopyasını almış olduğundan yakalama tamponu
+     * sonraki istekler için bırakılır.
+     *
+     * @param responseWrapper Body'yi yakalayan response sarmalayıcısı
+     * @throws IOException Body yazılamazsa
+     */
+    private void completeResponse(HttpServletResponse responseWrapper) throws IOException {
+        switch (responseWrapper) {
+            case ContentCachingResponseWrapper caching -> caching.copyBodyToResponse();
+            case StreamingCaptureResponseWrapper streaming -> {
+                streaming.flushWriter();
+                streaming.releaseContent();
+            }
+            default -> {}
+        }
+    }
+
+    /**
+     * HTTP request ve response'a ait header, body ve süre bilgilerinin değişmez bir kopyasını alır.
      *
      * <p>
      * İçeriğin türüne göre (multipart, binary, image, video, audio vb.) body loglama
      * otomatik olarak atlanabilir. Bu sayede log gürültüsü ve bellek tüketimi kontrol
-     * altında tutulur.
+     * altında tutulur. Decode ve serileştirme işlemleri {@link ApiLogWriter} tarafından yapılır.
      * </p>
      *
      * @param request         HTTP isteği
-     * @param responseWrapper Cache'lenmiş HTTP yanıtı
+     * @param responseWrapper Body'yi yakalayan HTTP yanıtı
      * @param requestWrapper  Cache'lenmiş HTTP isteği
      * @param executionTime   İstek işleme süresi (ms)
-     * @throws IOException Header serileştirme hatası durumunda
+     * @return İsteğe ait log kaydı
      */
-    private void logRequestResponse(HttpServletRequest request,
-                                    ContentCachingResponseWrapper responseWrapper,
+    private ApiLogSnapshot snapshot(HttpServletRequest request,
+                                    HttpServletResponse responseWrapper,
                                     ContentCachingRequestWrapper requestWrapper,
-                                    long executionTime) throws IOException {
-        var reqCt = request.getContentType();
-        var resCt = responseWrapper.getContentType();
-        boolean skipReqBody = shouldSkipBody(reqCt);
-        boolean skipResBody = shouldSkipBody(resCt);
-
-        var requestBody = skipReqBody
-                ? "[SKIPPED: content-type=" + reqCt + "]"
-                : toString(requestWrapper.getContentAsByteArray(), request.getCharacterEncoding());
-
-        var responseBody = skipResBody
-                ? "[SKIPPED: content-type=" + resCt + "]"
-                : toString(responseWrapper.getContentAsByteArray(),
-                responseWrapper.getCharacterEncoding());
-
-        var requestHeaders = OBJECT_MAPPER.writeValueAsString(getRequestHeadersInfo(request));
-        var responseHeaders = OBJECT_MAPPER.writeValueAsString(getResponseHeadersInfo(responseWrapper));
-
-        populateMDC(request, responseWrapper,
-                requestBody, responseBody,
-                requestHeaders, responseHeaders,
-                executionTime);
-
-        log.debug("log_type={}, status_code={}, request_method={}, uri={}",
-                LogTypes.API_LOG,
-                responseWrapper.getStatus(),
-                request.getMethod(),
-                request.getRequestURI());
+                                    long executionTime) {
+        var requestBody = shouldSkipBody(request.getContentType())
+                ? null
+                : requestBodySlice(request, requestWrapper);
+
+        var responseBody = shouldSkipBody(responseWrapper.getContentType())
+                ? null
+                : responseBodySlice(responseWrapper);
+
+        return ApiLogSnapshot.of(request, responseWrapper, CaptureLevel.FULL, requestBody, responseBody, executionTime);
     }
 
     /**
@@ -164,21 +350,50 @@ public class LoggingFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Byte dizisini güvenli bir şekilde String'e çevirir.
+     * Önbelleğe alınan istek body'sini log kaydına taşınacak görünüme çevirir.
+     * <p>
+     * Önbellek {@code maxPayloadLength} ile sınırlı olduğundan Content-Length daha büyükse
+     * body kesilmiş olarak işaretlenir.
+     *
+     * @param request        HTTP isteği
+     * @param requestWrapper Cache'lenmiş HTTP isteği
+     * @return İstek body görünümü
+     */
+    private BodySlice requestBodySlice(HttpServletRequest request, ContentCachingRequestWrapper requestWrapper) {
+        var bytes = requestWrapper.getContentAsByteArray();
+        boolean truncated = request.getContentLengthLong() > bytes.length;
+
+        return new BodySlice(bytes, bytes.length, truncated);
+    }
+
+    /**
+     * Sarmalayıcının yakaladığı response body'sinin en fazla {@code maxPayloadLength} byte'lık kopyasını döner.
      *
      * <p>
-     * Encoding bilgisi yoksa UTF-8 varsayılır. Loglama işlemleri sırasında
-     * exception fırlatılmaması özellikle tercih edilmiştir.
+     * Buffered modda tüm body bellekte olsa da log için yalnızca ilk {@code maxPayloadLength}
+     * byte okunur; büyük response'ların tamamı ikinci kez kopyalanmaz.
      * </p>
      *
-     * @param bytes    İçerik byte dizisi
-     * @param encoding Karakter encoding bilgisi
-     * @return String'e dönüştürülmüş içerik
+     * @param responseWrapper Body'yi yakalayan response sarmalayıcısı
+     * @return Response body görünümü
      */
-    private String toString(byte[] bytes, String encoding) {
-        Charset charset = (encoding == null)
-                ? StandardCharsets.UTF_8
-                : Charset.forName(encoding);
-        return new String(bytes, charset);
+    private BodySlice responseBodySlice(HttpServletResponse responseWrapper) {
+        return switch (responseWrapper) {
+            case ContentCachingResponseWrapper caching -> boundedCopy(caching);
+            case StreamingCaptureResponseWrapper streaming -> streaming.copyContent();
+            default -> BodySlice.EMPTY;
+        };
+    }
+
+    private BodySlice boundedCopy(ContentCachingResponseWrapper caching) {
+        int limit = properties.getMaxPayloadLength();
+        int size = caching.getContentSize();
+        if (size == 0) return BodySlice.EMPTY;
+        try {
+            var bytes = caching.getContentInputStream().readNBytes(Math.min(size, limit));
+            return new BodySlice(bytes, bytes.length, size > bytes.length);
+        } catch (IOException e) {
+            return BodySlice.EMPTY;
+        }
     }
 }
@@ -0,0 +1,142 @@
+package com.kalayciburak.commonpackage.web.filter.logging;
+
+import com.kalayciburak.commonpackage.web.filter.util.CharsetCache;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response body'sini bellekte biriktirmeden client'a aktaran, yalnızca ilk
+ * {@code limit} byte'ı loglama için kopyalayan response sarmalayıcısı.
+ *
+ * <p>
+ * {@link org.springframework.web.util.ContentCachingResponseWrapper}'ın aksine body
+ * handler çalışırken gerçek output stream'e yazılır. Böylece büyük export'lar heap'te
+ * tutulmaz ve chunked/streaming endpoint'ler erken flush edebilir.
+ * </p>
+ */
+public class StreamingCaptureResponseWrapper extends HttpServletResponseWrapper {
+    private final BoundedCaptureBuffer capture;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public StreamingCaptureResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.capture = new BoundedCaptureBuffer(limit);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) throw new IllegalStateException("getWriter() has already been called on this response");
+        if (outputStream == null) outputStream = new TeeOutputStream(getResponse().getOutputStream(), capture);
+
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null) throw new IllegalStateException("getOutputStream() has already been called on this response");
+        if (writer == null) {
+            var tee = new TeeOutputStream(getResponse().getOutputStream(), capture);
+            writer = new PrintWriter(new OutputStreamWriter(tee, resolveCharset()));
+        }
+
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) writer.flush();
+        super.flushBuffer();
+    }
+
+    /**
+     * Writer kullanıldıysa encoder tamponunda kalan karakterleri client'a aktarır.
+     * <p>
+     * Filtre zinciri tamamlandığında çağrılmalıdır; aksi halde body'nin son kısmı
+     * {@link OutputStreamWriter} içinde kalabilir.
+     */
+    public void flushWriter() {
+        if (writer != null) writer.flush();
+    }
+
+    /**
+     * Yakalanan body'nin log kaydına taşınacak kopyasını döner. Filtre zinciri tamamlandıktan sonra çağrılmalıdır.
+     *
+     * @return Yakalanan body görünümü
+     */
+    public BodySlice copyContent() {
+        return capture.copy();
+    }
+
+    /**
+     * Yakalama tamponunu sonraki istekler için bırakır. Response tamamlandıktan sonra bir kez çağrılmalıdır.
+     */
+    public void releaseContent() {
+        capture.release();
+    }
+
+    /**
+     * @return Client'a yazılan toplam body uzunluğu (byte)
+     */
+    public long getContentLength() {
+        return capture.getTotalLength();
+    }
+
+    private Charset resolveCharset() {
+        var encoding = getCharacterEncoding();
+        return encoding == null ? StandardCharsets.ISO_8859_1 : CharsetCache.resolve(encoding);
+    }
+
+    /**
+     * Yazılan her byte'ı hem asıl stream'e hem de yakalama tamponuna ileten output stream.
+     */
+    private static final class TeeOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private final BoundedCaptureBuffer capture;
+
+        private TeeOutputStream(ServletOutputStream delegate, BoundedCaptureBuffer capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
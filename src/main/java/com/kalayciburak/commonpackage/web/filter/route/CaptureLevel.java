@@ -0,0 +1,37 @@
+package com.kalayciburak.commonpackage.web.filter.route;
+
+/**
+ * Bir route için API_LOG kaydına ne kadar bilgi yazılacağını belirler.
+ */
+public enum CaptureLevel {
+    /**
+     * İstek loglanmaz, filtre tamamen atlanır.
+     */
+    NONE,
+    /**
+     * Sadece istek satırı, durum kodu, süre ve bağlantı bilgileri loglanır.
+     */
+    BASIC,
+    /**
+     * {@link #BASIC} bilgilerine ek olarak header'lar loglanır, body'ler yakalanmaz.
+     */
+    HEADERS,
+    /**
+     * Header'lar ve body'ler dahil tüm bilgiler loglanır.
+     */
+    FULL;
+
+    /**
+     * @return Bu seviyede header'ların loglanıp loglanmadığı
+     */
+    public boolean includesHeaders() {
+        return this == HEADERS || this == FULL;
+    }
+
+    /**
+     * @return Bu seviyede body'lerin yakalanıp yakalanmadığı
+     */
+    public boolean includesBody() {
+        return this == FULL;
+    }
+}
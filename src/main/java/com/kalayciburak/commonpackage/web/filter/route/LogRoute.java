@@ -0,0 +1,14 @@
+package com.kalayciburak.commonpackage.web.filter.route;
+
+/**
+ * Bir isteğin eşleştiği route kuralının sonucu.
+ *
+ * @param level      Loglanacak bilgi seviyesi
+ * @param sampleRate Route'a özel örnekleme oranı (tanımlı değilse null)
+ */
+public record LogRoute(CaptureLevel level, Double sampleRate) {
+    /**
+     * Hiçbir kurala uymayan istekler için kullanılan varsayılan sonuç.
+     */
+    public static final LogRoute DEFAULT = new LogRoute(CaptureLevel.FULL, null);
+}
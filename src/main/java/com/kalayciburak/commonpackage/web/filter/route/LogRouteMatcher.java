@@ -0,0 +1,185 @@
+package com.kalayciburak.commonpackage.web.filter.route;
+
+import com.kalayciburak.commonpackage.web.filter.config.ApiLogProperties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Route kurallarını başlangıçta path segmentlerinden oluşan bir trie'ye derleyen eşleştirici.
+ *
+ * <p>
+ * Literal segmentler hash tablosu ile, {@code *} ve {@code {var}} tek segment joker ile,
+ * {@code **} sıfır veya daha fazla segment joker ile, {@code *.js} gibi segmentler ise
+ * segment glob'u ile eşleştirilir. Eşleştirme, aktif düğüm kümesini segment segment
+ * ilerleten bir NFA simülasyonudur; maliyeti kural sayısından bağımsız olarak path
+ * uzunluğu ile orantılıdır.
+ * </p>
+ *
+ * <p>
+ * Birden fazla kural eşleşirse ilk tanımlanan kural kazanır. Kullanıcı kurallarından sonra
+ * her zaman {@value #ACTUATOR_PATTERN} için {@link CaptureLevel#NONE} kuralı eklenir; böylece
+ * actuator endpoint'leri varsayılan olarak loglanmaz ancak daha önce tanımlanan bir kural ile
+ * tekrar açılabilir.
+ * </p>
+ */
+public class LogRouteMatcher {
+    private static final String ACTUATOR_PATTERN = "/**/actuator/**";
+
+    private final Node root = new Node(false);
+    private final List<CompiledRule> rules = new ArrayList<>();
+
+    public LogRouteMatcher(List<ApiLogProperties.Route> routes) {
+        for (var route : routes) add(route.getPattern(), route.getMethods(), route.getContentTypes(),
+                route.getLevel(), route.getSampleRate());
+        add(ACTUATOR_PATTERN, List.of(), List.of(), CaptureLevel.NONE, null);
+    }
+
+    /**
+     * İsteğe uyan ilk kuralı bulur.
+     *
+     * @param method      HTTP metodu
+     * @param path        İstek path'i
+     * @param contentType İstek Content-Type değeri (yoksa null)
+     * @return Eşleşen kuralın sonucu, eşleşme yoksa {@link LogRoute#DEFAULT}
+     */
+    public LogRoute match(String method, String path, String contentType) {
+        var active = new ArrayList<Node>(4);
+        addWithClosure(active, root);
+
+        int length = path.length();
+        int start = 0;
+        while (start < length && !active.isEmpty()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) end = length;
+            if (end > start) active = step(active, path.substring(start, end));
+            start = end + 1;
+        }
+
+        int best = Integer.MAX_VALUE;
+        for (var node : active) {
+            for (int index : node.ruleIndexes) {
+                if (index < best && rules.get(index).accepts(method, contentType)) best = index;
+            }
+        }
+
+        return best == Integer.MAX_VALUE ? LogRoute.DEFAULT : rules.get(best).route();
+    }
+
+    private ArrayList<Node> step(List<Node> active, String segment) {
+        var next = new ArrayList<Node>(4);
+        for (var node : active) {
+            if (node.doubleStar) addWithClosure(next, node);
+            var literal = node.literals.get(segment);
+            if (literal != null) addWithClosure(next, literal);
+            if (node.any != null) addWithClosure(next, node.any);
+            for (var glob : node.globs.entrySet()) {
+                if (globMatches(glob.getKey(), segment)) addWithClosure(next, glob.getValue());
+            }
+        }
+
+        return next;
+    }
+
+    /**
+     * Düğümü ve {@code **} ile sıfır segment tüketerek ulaşılabilen düğümleri kümeye ekler.
+     */
+    private void addWithClosure(List<Node> set, Node node) {
+        for (var existing : set) if (existing == node) return;
+        set.add(node);
+        if (node.doubleStarChild != null) addWithClosure(set, node.doubleStarChild);
+    }
+
+    private void add(String pattern, List<String> methods, List<String> contentTypes,
+                     CaptureLevel level, Double sampleRate) {
+        if (pattern == null || pattern.isBlank()) throw new IllegalArgumentException("api-log.routes[].pattern must not be empty");
+
+        var node = root;
+        for (var segment : pattern.split("/")) {
+            if (segment.isEmpty()) continue;
+            node = node.child(segment);
+        }
+
+        node.ruleIndexes = append(node.ruleIndexes, rules.size());
+        rules.add(new CompiledRule(
+                new LogRoute(level, sampleRate),
+                methods.stream().map(m -> m.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet()),
+                contentTypes.stream().map(c -> c.toLowerCase(Locale.ROOT)).toList()));
+    }
+
+    private static int[] append(int[] array, int value) {
+        var copy = Arrays.copyOf(array, array.length + 1);
+        copy[array.length] = value;
+
+        return copy;
+    }
+
+    /**
+     * Sadece {@code *} jokerini destekleyen segment glob eşleştirmesi.
+     */
+    private static boolean globMatches(String glob, String segment) {
+        int g = 0, s = 0, starG = -1, starS = 0;
+        while (s < segment.length()) {
+            if (g < glob.length() && glob.charAt(g) != '*' && glob.charAt(g) == segment.charAt(s)) {
+                g++;
+                s++;
+            } else if (g < glob.length() && glob.charAt(g) == '*') {
+                starG = g++;
+                starS = s;
+            } else if (starG >= 0) {
+                g = starG + 1;
+                s = ++starS;
+            } else return false;
+        }
+        while (g < glob.length() && glob.charAt(g) == '*') g++;
+
+        return g == glob.length();
+    }
+
+    private static final class Node {
+        private final boolean doubleStar;
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Node> globs = new LinkedHashMap<>();
+        private Node any;
+        private Node doubleStarChild;
+        private int[] ruleIndexes = new int[0];
+
+        private Node(boolean doubleStar) {
+            this.doubleStar = doubleStar;
+        }
+
+        private Node child(String segment) {
+            if (segment.equals("**")) {
+                if (doubleStarChild == null) doubleStarChild = new Node(true);
+                return doubleStarChild;
+            }
+            if (segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (any == null) any = new Node(false);
+                return any;
+            }
+            if (segment.indexOf('*') >= 0) return globs.computeIfAbsent(segment, k -> new Node(false));
+
+            return literals.computeIfAbsent(segment, k -> new Node(false));
+        }
+    }
+
+    private record CompiledRule(LogRoute route, Set<String> methods, List<String> contentTypes) {
+        private boolean accepts(String method, String contentType) {
+            if (!methods.isEmpty() && !methods.contains(method)) return false;
+            if (contentTypes.isEmpty()) return true;
+            if (contentType == null) return false;
+            for (var prefix : contentTypes) {
+                if (contentType.regionMatches(true, 0, prefix, 0, prefix.length())) return true;
+            }
+
+            return false;
+        }
+    }
+}
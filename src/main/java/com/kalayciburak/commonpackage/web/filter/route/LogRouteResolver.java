@@ -0,0 +1,37 @@
+package com.kalayciburak.commonpackage.web.filter.route;
+
+import com.kalayciburak.commonpackage.web.filter.config.ApiLogProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code api-log.routes} kurallarını başlangıçta derler ve isteklere uygulanacak
+ * {@link LogRoute} sonucunu belirler.
+ * <p>
+ * Sonuç request attribute'u olarak saklanır; aynı istek için eşleştirme bir kez yapılır.
+ */
+@Component
+public class LogRouteResolver {
+    private static final String ROUTE_ATTRIBUTE = LogRouteResolver.class.getName() + ".route";
+
+    private final LogRouteMatcher matcher;
+
+    public LogRouteResolver(ApiLogProperties properties) {
+        this.matcher = new LogRouteMatcher(properties.getRoutes());
+    }
+
+    /**
+     * İsteğe uygulanacak route sonucunu döner.
+     *
+     * @param request HTTP isteği
+     * @return Eşleşen route sonucu
+     */
+    public LogRoute resolve(HttpServletRequest request) {
+        if (request.getAttribute(ROUTE_ATTRIBUTE) instanceof LogRoute route) return route;
+
+        var route = matcher.match(request.getMethod(), request.getRequestURI(), request.getContentType());
+        request.setAttribute(ROUTE_ATTRIBUTE, route);
+
+        return route;
+    }
+}
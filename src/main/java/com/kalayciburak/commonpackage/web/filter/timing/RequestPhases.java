@@ -0,0 +1,23 @@
+package com.kalayciburak.commonpackage.web.filter.timing;
+
+/**
+ * Bir isteğin {@code LoggingFilter} içinde ölçülen aşama süreleri (ns).
+ *
+ * @param preHandleNanos     Filtre girişinden handler çağrısına kadar geçen süre (sonraki filtreler, handler seçimi)
+ * @param handlerNanos       Handler çalışma süresi
+ * @param serializationNanos Response body'sinin serileştirilme süresi
+ * @param flushNanos         Yakalanan body'nin client'a aktarılma süresi
+ * @param loggingNanos       Log kaydının hazırlanma süresi
+ */
+public record RequestPhases(long preHandleNanos,
+                            long handlerNanos,
+                            long serializationNanos,
+                            long flushNanos,
+                            long loggingNanos) {
+    /**
+     * @return Loglama hariç toplam istek süresi (ns)
+     */
+    public long totalNanos() {
+        return preHandleNanos + handlerNanos + serializationNanos + flushNanos;
+    }
+}
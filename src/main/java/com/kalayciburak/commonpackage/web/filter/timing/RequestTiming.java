@@ -0,0 +1,120 @@
+package com.kalayciburak.commonpackage.web.filter.timing;
+
+import jakarta.servlet.ServletRequest;
+
+/**
+ * <b>Bir isteğin aşama sınırlarını {@link System#nanoTime()} ile işaretleyen zamanlayıcı.</b>
+ * <p>
+ * {@code LoggingFilter} girişte oluşturur ve request attribute'u olarak saklar.
+ * {@link RequestTimingInterceptor} handler başlangıcını, {@link RequestTimingResponseBodyAdvice}
+ * serileştirme başlangıcını işaretler; filtre zincir sonunu, flush aralıklarını ve loglama süresini ekler.
+ * İşaretlenmeyen sınırlar (ör. body'siz response) bir sonraki sınıra eşit kabul edilir; flush işaretlenmezse
+ * (body yakalanmadıysa) flush süresi serileştirmeye dahildir.
+ * <p>
+ * Yalnızca request thread'i tarafından yazılır; thread-safe değildir.
+ */
+public final class RequestTiming {
+    public static final String ATTRIBUTE = RequestTiming.class.getName();
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final long start;
+    private long handlerStart = UNSET;
+    private long bodyWriteStart = UNSET;
+    private long chainEnd = UNSET;
+    private long flushStart = UNSET;
+    private long flushNanos;
+    private long loggingNanos;
+
+    private RequestTiming(long start) {
+        this.start = start;
+    }
+
+    /**
+     * <b>Zamanlayıcıyı başlatır ve isteğe ekler.</b>
+     *
+     * @param request HTTP isteği.
+     * @return Başlatılan zamanlayıcı.
+     */
+    public static RequestTiming start(ServletRequest request) {
+        var timing = new RequestTiming(System.nanoTime());
+        request.setAttribute(ATTRIBUTE, timing);
+
+        return timing;
+    }
+
+    /**
+     * @param request HTTP isteği.
+     * @return İsteğin zamanlayıcısı, yoksa null
+     */
+    public static RequestTiming of(ServletRequest request) {
+        return request.getAttribute(ATTRIBUTE) instanceof RequestTiming timing ? timing : null;
+    }
+
+    /**
+     * Handler'ın çağrılmak üzere olduğunu işaretler. Yalnızca ilk çağrı dikkate alınır.
+     */
+    public void markHandlerStart() {
+        if (handlerStart == UNSET) handlerStart = System.nanoTime();
+    }
+
+    /**
+     * Response body'sinin serileştirilmek üzere olduğunu işaretler. Yalnızca ilk çağrı dikkate alınır.
+     */
+    public void markBodyWrite() {
+        if (bodyWriteStart == UNSET) bodyWriteStart = System.nanoTime();
+    }
+
+    /**
+     * Filtre zincirinin tamamlandığını işaretler.
+     */
+    public void markChainEnd() {
+        chainEnd = System.nanoTime();
+    }
+
+    /**
+     * Yakalanan body'nin client'a aktarılmaya başladığını işaretler.
+     */
+    public void markFlushStart() {
+        flushStart = System.nanoTime();
+    }
+
+    /**
+     * Yakalanan body'nin client'a aktarıldığını işaretler. Aktarım birden fazla adımda yapılıyorsa
+     * her {@link #markFlushStart()} / {@link #markFlushEnd()} aralığı flush süresine eklenir.
+     */
+    public void markFlushEnd() {
+        if (flushStart == UNSET) return;
+        flushNanos += System.nanoTime() - flushStart;
+        flushStart = UNSET;
+    }
+
+    /**
+     * @param nanos Loglama için harcanan süre (ns).
+     */
+    public void addLoggingNanos(long nanos) {
+        loggingNanos += nanos;
+    }
+
+    /**
+     * @return Filtre girişinden zincir sonuna kadar geçen süre (ms)
+     */
+    public long elapsedMillis() {
+        return (end(chainEnd) - start) / 1_000_000;
+    }
+
+    /**
+     * @return Şu ana kadar işaretlenen sınırlara göre aşama süreleri
+     */
+    public RequestPhases phases() {
+        long chain = end(chainEnd);
+        long handler = Math.min(handlerStart == UNSET ? chain : handlerStart, chain);
+        long bodyWrite = Math.max(handler, Math.min(bodyWriteStart == UNSET ? chain : bodyWriteStart, chain));
+
+        return new RequestPhases(handler - start, bodyWrite - handler, chain - bodyWrite, flushNanos, loggingNanos);
+    }
+
+    private static long end(long mark) {
+        return mark == UNSET ? System.nanoTime() : mark;
+    }
+}
@@ -0,0 +1,18 @@
+package com.kalayciburak.commonpackage.web.filter.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Handler çağrılmadan hemen önce {@link RequestTiming} üzerinde handler başlangıcını işaretler.
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        var timing = RequestTiming.of(request);
+        if (timing != null) timing.markHandlerStart();
+
+        return true;
+    }
+}
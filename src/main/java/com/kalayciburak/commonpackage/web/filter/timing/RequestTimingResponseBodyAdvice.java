@@ -0,0 +1,38 @@
+package com.kalayciburak.commonpackage.web.filter.timing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * <b>Response body serileştirilmeden hemen önce {@link RequestTiming} üzerinde serileştirme başlangıcını işaretler.</b>
+ * <p>
+ * Body'yi değiştirmez; exception handler response'ları dahil tüm {@code @ResponseBody} dönüşlerinde çalışır.
+ */
+@ControllerAdvice
+public class RequestTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servlet) {
+            var timing = RequestTiming.of(servlet.getServletRequest());
+            if (timing != null) timing.markBodyWrite();
+        }
+
+        return body;
+    }
+}
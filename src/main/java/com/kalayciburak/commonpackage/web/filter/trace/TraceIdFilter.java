@@ -0,0 +1,64 @@
+package com.kalayciburak.commonpackage.web.filter.trace;
+
+import com.kalayciburak.commonpackage.core.util.TraceIdGenerator;
+import com.kalayciburak.commonpackage.core.util.trace.RequestContext;
+import com.kalayciburak.commonpackage.core.util.trace.TraceContext;
+import com.kalayciburak.commonpackage.core.util.trace.TraceHeaders;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Her request için traceId'yi filtre zincirinin en başında bir kez belirler.
+ *
+ * <p>
+ * İstekle gelen {@code traceparent}/{@code X-Trace-Id} değeri varsa kullanılır, yoksa
+ * {@link TraceIdGenerator} ile yenisi üretilir. Sonuç {@link TraceContext} olarak request
+ * attribute'una yazılır, istek süresince {@link RequestContext} ile thread'e bağlanır ve
+ * client'ın hata bildirirken kullanabilmesi için {@code X-Trace-Id} response header'ı olarak döner.
+ * </p>
+ *
+ * <p>
+ * Async dispatch'ler de filtreden geçer; traceId yeniden üretilmez, yalnızca yeni
+ * thread'e tekrar bağlanır.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceIdFilter extends OncePerRequestFilter {
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        var context = TraceContext.of(request);
+        if (context == null) {
+            context = new TraceContext(resolveTraceId(request));
+            request.setAttribute(TraceContext.ATTRIBUTE, context);
+            response.setHeader(TraceHeaders.X_TRACE_ID, context.traceId());
+        }
+
+        try (var ignored = RequestContext.open(context)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private String resolveTraceId(HttpServletRequest request) {
+        var incoming = TraceHeaders.extract(request);
+
+        return incoming != null ? incoming : TraceIdGenerator.newTraceId();
+    }
+}
@@ -0,0 +1,52 @@
+package com.kalayciburak.commonpackage.web.filter.util;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Encoding isimlerini {@link Charset} nesnelerine çeviren küçük önbellek.
+ *
+ * <p>
+ * {@link Charset#forName(String)} her çağrıda isim doğrulaması ve lookup yapar, geçersiz
+ * isimlerde exception fırlatır. Loglama yolunda her istek için aynı birkaç encoding
+ * kullanıldığından sonuçlar önbelleğe alınır. Geçersiz veya desteklenmeyen isimler
+ * exception yerine UTF-8'e düşer. İstemci kaynaklı isimlerle büyümemesi için önbellek
+ * boyutu sınırlıdır.
+ * </p>
+ */
+public class CharsetCache {
+    private static final int MAX_ENTRIES = 64;
+    private static final ConcurrentMap<String, Charset> CACHE = new ConcurrentHashMap<>();
+
+    private CharsetCache() {}
+
+    /**
+     * Encoding ismine karşılık gelen charset'i döner.
+     *
+     * @param encoding Encoding ismi (null ise UTF-8)
+     * @return Çözümlenen charset, geçersiz isimlerde UTF-8
+     */
+    public static Charset resolve(String encoding) {
+        if (encoding == null) return StandardCharsets.UTF_8;
+
+        var cached = CACHE.get(encoding);
+        if (cached != null) return cached;
+
+        var charset = lookup(encoding);
+        if (CACHE.size() < MAX_ENTRIES) CACHE.putIfAbsent(encoding, charset);
+
+        return charset;
+    }
+
+    private static Charset lookup(String encoding) {
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.kalayciburak.commonpackage.web.filter.util;
+
+import static com.kalayciburak.commonpackage.core.util.JsonEscaper.appendQuoted;
+
+/**
+ * {@link HeaderSnapshot} içeriğini ara map veya Jackson ağacı oluşturmadan JSON'a yazar.
+ *
+ * <p>
+ * Tek değerli header'lar {@code "name":"value"}, çok değerli header'lar
+ * {@code "name":["v1","v2"]} olarak yazılır. Platform thread'lerinde thread başına
+ * bir {@link StringBuilder} tekrar kullanılır; virtual thread'lerde thread-local
+ * tutulmaz, her çağrıda kısa ömürlü bir tampon oluşturulur.
+ * </p>
+ */
+public class HeaderJsonWriter {
+    private static final int INITIAL_CAPACITY = 1024;
+    /**
+     * Bu kapasiteyi aşan tamponlar thread'e bağlı tutulmaz; tek bir büyük header
+     * setinin belleği kalıcı olarak işgal etmesi engellenir.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private HeaderJsonWriter() {}
+
+    /**
+     * Header'ları JSON nesnesi olarak döndürür.
+     *
+     * @param headers Header kopyası
+     * @return JSON formatındaki header'lar
+     */
+    public static String toJson(HeaderSnapshot headers) {
+        if (headers.size() == 0) return "{}";
+        var buffer = acquireBuffer();
+        appendJson(buffer, headers);
+
+        return buffer.toString();
+    }
+
+    /**
+     * Header'ları JSON nesnesi olarak verilen tampona ekler.
+     *
+     * @param target  Yazılacak tampon
+     * @param headers Header kopyası
+     * @return Hedef tampon
+     */
+    public static StringBuilder appendJson(StringBuilder target, HeaderSnapshot headers) {
+        var names = headers.names();
+        var values = headers.values();
+        int size = headers.size();
+
+        target.append('{');
+        int i = 0;
+        while (i < size) {
+            if (i > 0) target.append(',');
+            var name = names[i];
+            int end = i + 1;
+            while (end < size && name.equals(names[end])) end++;
+
+            appendQuoted(target, name).append(':');
+            if (end - i == 1) appendQuoted(target, values[i]);
+            else appendArray(target, values, i, end);
+            i = end;
+        }
+
+        return target.append('}');
+    }
+
+    private static void appendArray(StringBuilder target, String[] values, int from, int to) {
+        target.append('[');
+        for (int i = from; i < to; i++) {
+            if (i > from) target.append(',');
+            appendQuoted(target, values[i]);
+        }
+        target.append(']');
+    }
+
+    private static StringBuilder acquireBuffer() {
+        if (Thread.currentThread().isVirtual()) return new StringBuilder(INITIAL_CAPACITY);
+
+        var buffer = BUFFER.get();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = new StringBuilder(INITIAL_CAPACITY);
+            BUFFER.set(buffer);
+        }
+        buffer.setLength(0);
+
+        return buffer;
+    }
+}
@@ -0,0 +1,46 @@
+package com.kalayciburak.commonpackage.web.filter.util;
+
+import java.util.Arrays;
+
+/**
+ * HTTP header'larının isim/değer dizileri halinde saklandığı değişmez kopya.
+ * <p>
+ * Birden fazla değeri olan header'lar aynı isimle ardışık olarak tekrarlanır;
+ * böylece {@code getHeader(name)} ile yalnızca ilk değeri okumak yerine tüm
+ * değerler korunur ve her header için ayrı bir koleksiyon oluşturulmaz.
+ *
+ * @param names  Header isimleri (çok değerli header'lar ardışık tekrarlanır)
+ * @param values Header değerleri ({@code names} ile aynı sırada)
+ * @param size   Geçerli eleman sayısı
+ */
+public record HeaderSnapshot(String[] names, String[] values, int size) {
+    public static final HeaderSnapshot EMPTY = new HeaderSnapshot(new String[0], new String[0], 0);
+
+    /**
+     * Header kopyasını eleman eleman oluşturan yardımcı sınıf.
+     */
+    static final class Builder {
+        private String[] names;
+        private String[] values;
+        private int size;
+
+        Builder(int expectedSize) {
+            int capacity = Math.max(4, expectedSize);
+            this.names = new String[capacity];
+            this.values = new String[capacity];
+        }
+
+        void add(String name, String value) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size << 1);
+                values = Arrays.copyOf(values, size << 1);
+            }
+            names[size] = name;
+            values[size++] = value;
+        }
+
+        HeaderSnapshot build() {
+            return size == 0 ? EMPTY : new HeaderSnapshot(names, values, size);
+        }
+    }
+}
@@ -7,10 +7,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class HeaderUtils {
+    private static final String VALUE_SEPARATOR = ", ";
+
     private HeaderUtils() {}
 
     /**
      * HTTP isteğine ait tüm başlık isimlerini ve karşılık gelen değerlerini içeren bir map yapısını döndürür.
+     * <p>
+     * Birden fazla değeri olan başlıkların değerleri virgül ile birleştirilir.
      *
      * @param request HTTP isteğini temsil eden HttpServletRequest nesnesi
      * @return İstek başlıklarının isim ve değerlerini içeren Map yapısı
@@ -20,7 +24,9 @@ public class HeaderUtils {
         var headerNames = request.getHeaderNames();
         while (headerNames.hasMoreElements()) {
             var key = headerNames.nextElement();
-            var value = request.getHeader(key);
+            var values = request.getHeaders(key);
+            var value = values.hasMoreElements() ? values.nextElement() : null;
+            while (values.hasMoreElements()) value = value + VALUE_SEPARATOR + values.nextElement();
             map.put(key, value);
         }
 
@@ -29,6 +35,8 @@ public class HeaderUtils {
 
     /**
      * HTTP yanıtına ait tüm başlık isimlerini ve karşılık gelen değerlerini içeren bir map yapısını döndürür.
+     * <p>
+     * Birden fazla değeri olan başlıkların değerleri virgül ile birleştirilir.
      *
      * @param response HTTP yanıtını temsil eden HttpServletResponse nesnesi
      * @return Yanıt başlıklarının isim ve değerlerini içeren Map yapısı
@@ -36,10 +44,52 @@ public class HeaderUtils {
     public static Map<String, String> getResponseHeadersInfo(HttpServletResponse response) {
         Map<String, String> map = new HashMap<>();
         for (String name : response.getHeaderNames()) {
-            var value = response.getHeader(name);
-            map.put(name, value);
+            var values = response.getHeaders(name);
+            map.put(name, values.size() > 1 ? String.join(VALUE_SEPARATOR, values) : response.getHeader(name));
         }
 
         return map;
     }
+
+    /**
+     * HTTP isteğinin başlıklarını ara map oluşturmadan dizi tabanlı bir kopyaya alır.
+     * <p>
+     * Birden fazla değeri olan başlıkların tüm değerleri korunur.
+     *
+     * @param request HTTP isteğini temsil eden HttpServletRequest nesnesi
+     * @return İstek başlıklarının kopyası
+     */
+    public static HeaderSnapshot snapshotRequestHeaders(HttpServletRequest request) {
+        var headerNames = request.getHeaderNames();
+        if (headerNames == null || !headerNames.hasMoreElements()) return HeaderSnapshot.EMPTY;
+
+        var builder = new HeaderSnapshot.Builder(16);
+        while (headerNames.hasMoreElements()) {
+            var name = headerNames.nextElement();
+            var values = request.getHeaders(name);
+            while (values.hasMoreElements()) builder.add(name, values.nextElement());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * HTTP yanıtının başlıklarını ara map oluşturmadan dizi tabanlı bir kopyaya alır.
+     * <p>
+     * Birden fazla değeri olan başlıkların (ör. {@code Set-Cookie}) tüm değerleri korunur.
+     *
+     * @param response HTTP yanıtını temsil eden HttpServletResponse nesnesi
+     * @return Yanıt başlıklarının kopyası
+     */
+    public static HeaderSnapshot snapshotResponseHeaders(HttpServletResponse response) {
+        var headerNames = response.getHeaderNames();
+        if (headerNames.isEmpty()) return HeaderSnapshot.EMPTY;
+
+        var builder = new HeaderSnapshot.Builder(headerNames.size());
+        for (String name : headerNames) {
+            for (String value : response.getHeaders(name)) builder.add(name, value);
+        }
+
+        return builder.build();
+    }
 }
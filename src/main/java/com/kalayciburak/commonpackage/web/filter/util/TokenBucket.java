@@ -0,0 +1,60 @@
+package com.kalayciburak.commonpackage.web.filter.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Saniyede belirli sayıda olaya izin veren, kilitsiz (lock-free) token bucket.
+ *
+ * <p>
+ * GCRA (Generic Cell Rate Algorithm) yaklaşımı ile tek bir {@link AtomicLong}
+ * üzerinde çalışır: her izin "teorik varış zamanını" bir aralık kadar ileri taşır.
+ * Kova kapasitesi bir saniyelik kotaya eşittir, böylece kısa süreli patlamalara
+ * izin verilirken uzun vadeli ortalama sınırı korunur.
+ * </p>
+ */
+public class TokenBucket {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerSecond Saniyede izin verilen olay sayısı (0'dan büyük olmalıdır)
+     */
+    public TokenBucket(long permitsPerSecond) {
+        if (permitsPerSecond <= 0) throw new IllegalArgumentException("permitsPerSecond must be positive");
+        this.intervalNanos = Math.max(1, TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = intervalNanos * permitsPerSecond;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Kovada yer varsa bir token tüketir.
+     *
+     * @return Token alındıysa true
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = nextArrival(current, now);
+            if (next - now > burstNanos) return false;
+            if (theoreticalArrival.compareAndSet(current, next)) return true;
+        }
+    }
+
+    /**
+     * Token tüketmeden kovada yer olup olmadığını kontrol eder.
+     *
+     * @return Şu an bir token alınabilecekse true
+     */
+    public boolean hasCapacity() {
+        long now = System.nanoTime();
+
+        return nextArrival(theoreticalArrival.get(), now) - now <= burstNanos;
+    }
+
+    private long nextArrival(long current, long now) {
+        return (current - now > 0 ? current : now) + intervalNanos;
+    }
+}
@@ -0,0 +1,234 @@
+package com.kalayciburak.commonpackage.web.metrics;
+
+import com.kalayciburak.commonpackage.web.filter.timing.RequestPhases;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <b>Request latency, payload boyutu ve hata sayılarını Micrometer'a yayınlar.</b>
+ * <p>
+ * Route etiketi ham URI yerine {@link HandlerMapping#BEST_MATCHING_PATTERN_ATTRIBUTE} değerinden alınır;
+ * HTTP metodu ve status sınıfı ({@code 2xx}, {@code 4xx} vb.) ile birlikte düşük kardinaliteli kalır.
+ * Meter'lar route başına önbellekte tutulur; bir route/metod/status sınıfı için ilk kayıttan sonra
+ * kayıt işlemi nesne üretmez. Handler mapping'lerdeki route'lar başlangıçta {@link ApiMetricsRouteRegistrar}
+ * ile önceden register edilir.
+ * <p>
+ * İstek aşamaları ({@link RequestPhases}) route'tan bağımsız olarak {@code phase} etiketiyle kaydedilir;
+ * bu sayede p99'un ne kadarının loglama filtresinin kendisinden geldiği görülebilir.
+ * <p>
+ * Uygulamada {@link MeterRegistry} yoksa ya da {@code api-metrics.enabled=false} ise tüm metodlar etkisizdir.
+ */
+@Component
+public class ApiMetrics {
+    public static final String REQUESTS = "api.requests";
+    public static final String REQUEST_SIZE = "api.request.size";
+    public static final String RESPONSE_SIZE = "api.response.size";
+    public static final String ERRORS = "api.errors";
+    public static final String PHASES = "api.request.phase";
+
+    private static final String UNMATCHED = "UNMATCHED";
+    private static final String OTHER = "OTHER";
+    private static final String[] METHODS = {"GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS", "TRACE", OTHER};
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx", "UNKNOWN"};
+    private static final int[] PRE_REGISTERED_STATUS_CLASSES = {1, 3, 4};
+
+    private final MeterRegistry registry;
+    private final ApiMetricsProperties properties;
+    private final ConcurrentMap<String, RouteMeters> routes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Counter>> errors = new ConcurrentHashMap<>();
+    private final Timer preHandle;
+    private final Timer handler;
+    private final Timer serialization;
+    private final Timer flush;
+    private final Timer logging;
+
+    public ApiMetrics(ObjectProvider<MeterRegistry> registry, ApiMetricsProperties properties) {
+        this.properties = properties;
+        this.registry = properties.isEnabled() ? registry.getIfAvailable() : null;
+        this.preHandle = phaseTimer("pre_handle");
+        this.handler = phaseTimer("handler");
+        this.serialization = phaseTimer("serialization");
+        this.flush = phaseTimer("flush");
+        this.logging = phaseTimer("logging");
+    }
+
+    /**
+     * @return Metriklerin kaydedilip kaydedilmediği
+     */
+    public boolean isEnabled() {
+        return registry != null;
+    }
+
+    /**
+     * <b>Tamamlanan bir isteğin süresini ve payload boyutlarını kaydeder.</b>
+     *
+     * @param request       HTTP isteği. Route pattern'i handler seçildikten sonra okunur.
+     * @param status        Yanıt durum kodu.
+     * @param durationNanos İstek süresi (ns).
+     * @param requestBytes  İstek body boyutu, bilinmiyorsa negatif.
+     * @param responseBytes Yanıt body boyutu, bilinmiyorsa negatif.
+     */
+    public void recordRequest(HttpServletRequest request, int status, long durationNanos,
+                              long requestBytes, long responseBytes) {
+        if (registry == null) return;
+
+        var route = route(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        int method = methodIndex(request.getMethod());
+        route.timer(method, statusIndex(status)).record(durationNanos, TimeUnit.NANOSECONDS);
+        if (requestBytes >= 0) route.requestSize(method).record(requestBytes);
+        if (responseBytes >= 0) route.responseSize(method).record(responseBytes);
+    }
+
+    /**
+     * <b>Bir route'un meter'larını istek gelmeden önce register eder.</b>
+     * <p>
+     * {@code 2xx}, {@code 4xx} ve {@code 5xx} timer'ları ile payload boyutu özetleri sıfır değerle yayınlanır;
+     * alarmlar henüz istek almamış route'lar için de sıfır serisi üzerinden tanımlanabilir.
+     * {@code maxRoutes} sınırı burada da uygulanır.
+     *
+     * @param pattern Route pattern'i ({@code /api/users/{id}}).
+     * @param method  HTTP metodu.
+     */
+    public void registerRoute(String pattern, String method) {
+        if (registry == null) return;
+
+        var route = route(pattern);
+        int methodIndex = methodIndex(method);
+        for (int status : PRE_REGISTERED_STATUS_CLASSES) route.timer(methodIndex, status);
+        route.requestSize(methodIndex);
+        route.responseSize(methodIndex);
+    }
+
+    /**
+     * <b>Tamamlanan bir isteğin aşama sürelerini kaydeder.</b>
+     *
+     * @param phases İsteğin aşama süreleri.
+     */
+    public void recordPhases(RequestPhases phases) {
+        if (registry == null) return;
+
+        preHandle.record(phases.preHandleNanos(), TimeUnit.NANOSECONDS);
+        handler.record(phases.handlerNanos(), TimeUnit.NANOSECONDS);
+        serialization.record(phases.serializationNanos(), TimeUnit.NANOSECONDS);
+        flush.record(phases.flushNanos(), TimeUnit.NANOSECONDS);
+        logging.record(phases.loggingNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * <b>Exception handler'ın döndüğü hatayı tip ve kod bazında sayar.</b>
+     *
+     * @param type Hata tipi ({@code Types.Error}).
+     * @param code Hata kodu ({@code Codes}).
+     */
+    public void recordError(String type, String code) {
+        if (registry == null) return;
+
+        var typeKey = type == null ? OTHER : type;
+        var codeKey = code == null ? OTHER : code;
+        var byCode = errors.computeIfAbsent(typeKey, t -> new ConcurrentHashMap<>());
+        var counter = byCode.get(codeKey);
+        if (counter == null) counter = byCode.computeIfAbsent(codeKey, c -> Counter.builder(ERRORS)
+                .tag("type", typeKey)
+                .tag("code", c)
+                .register(registry));
+        counter.increment();
+    }
+
+    private Timer phaseTimer(String phase) {
+        if (registry == null) return null;
+
+        return Timer.builder(PHASES)
+                .tag("phase", phase)
+                .publishPercentileHistogram(properties.isHistogram())
+                .register(registry);
+    }
+
+    private RouteMeters route(Object pattern) {
+        var uri = pattern instanceof String value ? value : UNMATCHED;
+        var route = routes.get(uri);
+        if (route != null) return route;
+        if (routes.size() >= properties.getMaxRoutes()) uri = OTHER;
+
+        return routes.computeIfAbsent(uri, RouteMeters::new);
+    }
+
+    private static int methodIndex(String method) {
+        return switch (method) {
+            case "GET" -> 0;
+            case "POST" -> 1;
+            case "PUT" -> 2;
+            case "PATCH" -> 3;
+            case "DELETE" -> 4;
+            case "HEAD" -> 5;
+            case "OPTIONS" -> 6;
+            case "TRACE" -> 7;
+            case null, default -> 8;
+        };
+    }
+
+    private static int statusIndex(int status) {
+        int index = status / 100 - 1;
+        return index >= 0 && index < 5 ? index : 5;
+    }
+
+    /**
+     * Tek bir route'a ait meter'lar. Her metod/status sınıfı ilk kullanımda bir kez register edilir.
+     */
+    private final class RouteMeters {
+        private final String uri;
+        private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(METHODS.length * STATUS_CLASSES.length);
+        private final AtomicReferenceArray<DistributionSummary> requestSizes = new AtomicReferenceArray<>(METHODS.length);
+        private final AtomicReferenceArray<DistributionSummary> responseSizes = new AtomicReferenceArray<>(METHODS.length);
+
+        private RouteMeters(String uri) {
+            this.uri = uri;
+        }
+
+        private Timer timer(int method, int status) {
+            int index = method * STATUS_CLASSES.length + status;
+            var timer = timers.get(index);
+            if (timer != null) return timer;
+            timer = Timer.builder(REQUESTS)
+                    .tag("uri", uri)
+                    .tag("method", METHODS[method])
+                    .tag("status", STATUS_CLASSES[status])
+                    .publishPercentileHistogram(properties.isHistogram())
+                    .register(registry);
+            timers.set(index, timer);
+
+            return timer;
+        }
+
+        private DistributionSummary requestSize(int method) {
+            return summary(requestSizes, REQUEST_SIZE, method);
+        }
+
+        private DistributionSummary responseSize(int method) {
+            return summary(responseSizes, RESPONSE_SIZE, method);
+        }
+
+        private DistributionSummary summary(AtomicReferenceArray<DistributionSummary> cache, String name, int method) {
+            var summary = cache.get(method);
+            if (summary != null) return summary;
+            summary = DistributionSummary.builder(name)
+                    .baseUnit("bytes")
+                    .tag("uri", uri)
+                    .tag("method", METHODS[method])
+                    .register(registry);
+            cache.set(method, summary);
+
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.kalayciburak.commonpackage.web.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code api-metrics.*} altındaki request ve hata metrikleri ayarlarını taşır.
+ * <p>
+ * Metrikler yalnızca uygulamada bir {@code MeterRegistry} bean'i varsa yayınlanır.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "api-metrics")
+public class ApiMetricsProperties {
+    /**
+     * false ise hiçbir metrik kaydedilmez.
+     */
+    private boolean enabled = true;
+
+    /**
+     * true ise latency timer'ları percentile histogram bucket'ları yayınlar.
+     */
+    private boolean histogram = true;
+
+    /**
+     * Ayrı metrik tutulacak en fazla route sayısı. Aşıldığında yeni route'lar {@code OTHER} altında toplanır.
+     */
+    private int maxRoutes = 256;
+
+    /**
+     * true ise handler mapping'lerdeki route'ların meter'ları başlangıçta sıfır değerle register edilir.
+     */
+    private boolean preRegisterRoutes = true;
+}
@@ -0,0 +1,42 @@
+package com.kalayciburak.commonpackage.web.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * <b>Handler mapping'lerdeki route'ların meter'larını uygulama başlarken register eder.</b>
+ * <p>
+ * Tüm singleton'lar oluşturulduktan sonra her {@link RequestMappingHandlerMapping}'in pattern ve metodları
+ * {@link ApiMetrics#registerRoute(String, String)} ile kaydedilir. Metod belirtmeyen mapping'ler {@code GET}
+ * olarak register edilir. {@code api-metrics.pre-register-routes=false} ile kapatılabilir.
+ */
+@Component
+public class ApiMetricsRouteRegistrar implements SmartInitializingSingleton {
+    private final ApiMetrics metrics;
+    private final ApiMetricsProperties properties;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    public ApiMetricsRouteRegistrar(ApiMetrics metrics,
+                                    ApiMetricsProperties properties,
+                                    ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        this.metrics = metrics;
+        this.properties = properties;
+        this.handlerMappings = handlerMappings;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!metrics.isEnabled() || !properties.isPreRegisterRoutes()) return;
+
+        handlerMappings.orderedStream().forEach(mapping -> mapping.getHandlerMethods().keySet().forEach(info -> {
+            var methods = info.getMethodsCondition().getMethods();
+            for (var pattern : info.getPatternValues()) {
+                if (methods.isEmpty()) metrics.registerRoute(pattern, RequestMethod.GET.name());
+                else methods.forEach(method -> metrics.registerRoute(pattern, method.name()));
+            }
+        }));
+    }
+}
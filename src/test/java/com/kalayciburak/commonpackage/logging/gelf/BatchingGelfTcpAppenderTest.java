@@ -0,0 +1,200 @@
+package com.kalayciburak.commonpackage.logging.gelf;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.encoder.EncoderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link BatchingGelfTcpAppender}'ı collector yerine geçen bir {@link ServerSocket} ile test eder.
+ */
+class BatchingGelfTcpAppenderTest {
+    private static final int TIMEOUT_MS = 5_000;
+
+    private final LoggerContext context = new LoggerContext();
+    private BatchingGelfTcpAppender appender;
+
+    @TempDir
+    Path spoolDirectory;
+
+    @BeforeEach
+    void setUp() {
+        appender = new BatchingGelfTcpAppender();
+        appender.setContext(context);
+        appender.setGraylogHost(InetAddress.getLoopbackAddress().getHostAddress());
+        appender.setFlushIntervalMs(20);
+        appender.setReconnectDelayMs(50);
+        appender.setConnectTimeoutMs(1_000);
+        appender.setEncoder(new MessageEncoder());
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    void sendsBatchesAsNullDelimitedFrames() throws Exception {
+        try (var server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            appender.setGraylogPort(server.getLocalPort());
+            appender.setBatchSize(4);
+            appender.start();
+
+            var expected = new ArrayList<String>();
+            for (int i = 0; i < 10; i++) {
+                expected.add("message-" + i);
+                appender.doAppend(event("message-" + i));
+            }
+
+            try (var client = accept(server)) {
+                assertThat(readFrames(client, 10)).containsExactlyElementsOf(expected);
+            }
+            awaitUntil(() -> appender.getSentCount() == 10);
+            assertThat(appender.getDroppedCount()).isZero();
+            assertThat(appender.getSpooledCount()).isZero();
+        }
+    }
+
+    @Test
+    void dropsEventsWhenQueueIsFullAndNoSpoolIsConfigured() throws Exception {
+        var encoding = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        appender.setEncoder(new MessageEncoder() {
+            @Override
+            public byte[] encode(ILoggingEvent event) {
+                encoding.countDown();
+                try {
+                    release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(event);
+            }
+        });
+
+        try (var server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            appender.setGraylogPort(server.getLocalPort());
+            appender.setQueueSize(1);
+            appender.setBatchSize(1);
+            appender.start();
+
+            appender.doAppend(event("in-flight"));
+            assertThat(encoding.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+            appender.doAppend(event("queued"));
+            appender.doAppend(event("dropped"));
+            assertThat(appender.getDroppedCount()).isEqualTo(1);
+
+            release.countDown();
+            try (var client = accept(server)) {
+                assertThat(readFrames(client, 2)).containsExactly("in-flight", "queued");
+            }
+            awaitUntil(() -> appender.getSentCount() == 2);
+            assertThat(appender.getDroppedCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void spoolsWhileCollectorIsDownAndReplaysAfterReconnect() throws Exception {
+        int port;
+        try (var probe = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = probe.getLocalPort();
+        }
+        appender.setGraylogPort(port);
+        appender.setSpoolDirectory(spoolDirectory.toString());
+        appender.setSpoolSegmentSize(64 * 1024);
+        appender.setSpoolMaxSegments(2);
+        appender.start();
+
+        for (int i = 0; i < 3; i++) appender.doAppend(event("spooled-" + i));
+        awaitUntil(() -> appender.getSpooledCount() == 3);
+        assertThat(appender.getConnectFailureCount()).isPositive();
+        assertThat(appender.getSentCount()).isZero();
+        assertThat(appender.getSpoolSize()).isPositive();
+
+        try (var server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+             var client = accept(server)) {
+            assertThat(readFrames(client, 3)).containsExactly("spooled-0", "spooled-1", "spooled-2");
+            awaitUntil(() -> appender.getSentCount() == 3);
+        }
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    private ILoggingEvent event(String message) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), Level.INFO, message, null, null);
+    }
+
+    private static Socket accept(ServerSocket server) throws IOException {
+        server.setSoTimeout(TIMEOUT_MS);
+        var client = server.accept();
+        client.setSoTimeout(TIMEOUT_MS);
+        return client;
+    }
+
+    /**
+     * Null byte ile ayrılmış {@code count} çerçeveyi okur.
+     */
+    private static List<String> readFrames(Socket client, int count) throws IOException {
+        var frames = new ArrayList<String>(count);
+        var input = client.getInputStream();
+        var frame = new ByteArrayOutputStream();
+        while (frames.size() < count) {
+            int b = input.read();
+            assertThat(b).as("bağlantı erken kapandı").isNotNegative();
+            if (b == 0) {
+                frames.add(frame.toString(UTF_8));
+                frame.reset();
+            } else {
+                frame.write(b);
+            }
+        }
+        return frames;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("koşul zaman aşımına uğradı").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Olay mesajını olduğu gibi yazan encoder.
+     */
+    private static class MessageEncoder extends EncoderBase<ILoggingEvent> {
+        @Override
+        public byte[] headerBytes() {
+            return null;
+        }
+
+        @Override
+        public byte[] encode(ILoggingEvent event) {
+            return event.getFormattedMessage().getBytes(UTF_8);
+        }
+
+        @Override
+        public byte[] footerBytes() {
+            return null;
+        }
+    }
+}